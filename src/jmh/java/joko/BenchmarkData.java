@@ -0,0 +1,97 @@
+package joko;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import joko.storage.Storage;
+import joko.task.Deadline;
+import joko.task.Event;
+import joko.task.Task;
+import joko.task.ToDo;
+
+/**
+ * Generates deterministic task data for the benchmarks.
+ */
+public final class BenchmarkData {
+    /** Words that descriptions are built from, so keyword searches have realistic hit rates. */
+    private static final String[] WORDS = {
+        "read", "book", "report", "submit", "meeting", "project", "lunch", "call", "review", "draft",
+        "gym", "groceries", "email", "plan", "trip", "paper", "slides", "exam", "lab", "tutorial"
+    };
+
+    /** Event times that recur across an exported list. */
+    private static final String[] TIMES = {
+        "Monday", "Tuesday", "Wednesday", "Thursday", "Friday", "8am", "10am", "12pm", "2pm", "4pm", "6pm", "8pm"
+    };
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Returns {@code size} tasks cycling through todos, deadlines and events.
+     *
+     * @param size the number of tasks to generate
+     * @return the generated tasks
+     */
+    public static ArrayList<Task> tasks(int size) {
+        ArrayList<Task> tasks = new ArrayList<>(size);
+        LocalDateTime start = LocalDateTime.of(2026, 1, 1, 9, 0);
+        for (int i = 0; i < size; i++) {
+            String desc = WORDS[i % WORDS.length] + " " + WORDS[(i / WORDS.length) % WORDS.length] + " " + i;
+            Task task = switch (i % 3) {
+            case 0 -> new ToDo(desc);
+            case 1 -> new Deadline(desc, start.plusMinutes(i));
+            default -> new Event(desc, "Mon 2pm", "4pm");
+            };
+            task.setDone(i % 4 == 0);
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    /**
+     * Returns {@code size} tasks with the repetition of a real exported list.
+     * <p>
+     * Event times come from a dozen common values, and two in three descriptions are one of a few
+     * hundred recurring ones ("gym plan", "call lab"); the rest are unique.
+     * </p>
+     *
+     * @param size the number of tasks to generate
+     * @return the generated tasks
+     */
+    public static ArrayList<Task> recurringTasks(int size) {
+        ArrayList<Task> tasks = new ArrayList<>(size);
+        LocalDateTime start = LocalDateTime.of(2026, 1, 1, 9, 0);
+        for (int i = 0; i < size; i++) {
+            String desc = WORDS[i % WORDS.length] + " " + WORDS[(i / WORDS.length) % WORDS.length]
+                    + (i % 3 == 2 ? " " + i : "");
+            Task task = switch (i % 3) {
+            case 0 -> new ToDo(desc);
+            case 1 -> new Deadline(desc, start.plusMinutes(i));
+            default -> new Event(desc, TIMES[i % TIMES.length], TIMES[(i / TIMES.length) % TIMES.length]);
+            };
+            task.setDone(i % 4 == 0);
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    /**
+     * Returns a storage that keeps nothing, so task list benchmarks measure only in-memory work.
+     *
+     * @return a storage whose writes do nothing
+     */
+    public static Storage nullStorage() {
+        return new Storage("unused") {
+            @Override
+            public void saveTasks(List<Task> tasks) {
+            }
+
+            @Override
+            public ArrayList<Task> loadTasks() {
+                return new ArrayList<>();
+            }
+        };
+    }
+}
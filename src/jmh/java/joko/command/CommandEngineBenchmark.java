@@ -0,0 +1,82 @@
+package joko.command;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import joko.BenchmarkData;
+import joko.task.TaskList;
+
+/**
+ * Measures whole commands run through the command engine, from raw input to result, without a
+ * front end.
+ * <p>
+ * Storage writes are disabled so only parsing, dispatch and the task list are measured.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class CommandEngineBenchmark {
+    @Param({"1000", "100000"})
+    private int size;
+
+    private CommandEngine engine;
+    private boolean isDone;
+
+    /**
+     * Builds an engine over a task list of the requested size.
+     */
+    @Setup
+    public void setUp() {
+        engine = new CommandEngine(new TaskList(BenchmarkData.tasks(size), BenchmarkData.nullStorage()));
+    }
+
+    /**
+     * Marks and unmarks a single task by number.
+     */
+    @Benchmark
+    public CommandResult mark() {
+        isDone = !isDone;
+        return engine.execute(isDone ? "mark 42" : "unmark 42");
+    }
+
+    /**
+     * Tries to add a task that is already in the list.
+     */
+    @Benchmark
+    public CommandResult addDuplicate() {
+        return engine.execute("todo read book 0");
+    }
+
+    /**
+     * Finds tasks by two keywords.
+     */
+    @Benchmark
+    public CommandResult find() {
+        return engine.execute("find report exam");
+    }
+
+    /**
+     * Lists one page of tasks.
+     */
+    @Benchmark
+    public CommandResult listPage() {
+        return engine.execute("list --page 2");
+    }
+
+    /**
+     * Rejects an unknown command.
+     */
+    @Benchmark
+    public CommandResult unknown() {
+        return engine.execute("dance all night");
+    }
+}
@@ -0,0 +1,69 @@
+package joko.gui;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javafx.application.Platform;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.image.Image;
+import javafx.scene.layout.HBox;
+
+/**
+ * Compares the per-message cost of building a dialog box by parsing {@code DialogBox.fxml},
+ * as every message used to, with the programmatic {@link DialogBox}.
+ * <p>
+ * Needs a JavaFX toolkit; on a machine without a display, run with a headless platform such as Monocle.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class DialogBoxBenchmark {
+    private URL fxml;
+    private Image image;
+
+    /**
+     * Starts the JavaFX toolkit and loads the picture once.
+     */
+    @Setup
+    public void setUp() {
+        try {
+            Platform.startup(() -> { });
+        } catch (IllegalStateException e) {
+            // Toolkit already running in this JVM
+        }
+        fxml = DialogBox.class.getResource("/view/DialogBox.fxml");
+        image = Images.get(Images.JOKO);
+    }
+
+    /**
+     * Builds a dialog box by loading its FXML with a fresh {@link FXMLLoader}.
+     */
+    @Benchmark
+    public HBox fxmlDialogBox() throws IOException {
+        FXMLLoader loader = new FXMLLoader(fxml);
+        HBox box = new HBox();
+        loader.setRoot(box);
+        loader.load();
+        return box;
+    }
+
+    /**
+     * Builds a dialog box in code and fills it in.
+     */
+    @Benchmark
+    public HBox programmaticDialogBox() {
+        DialogBox box = new DialogBox();
+        box.setMessage("Got it. I've added this task", image, false);
+        return box;
+    }
+}
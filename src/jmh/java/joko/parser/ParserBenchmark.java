@@ -0,0 +1,54 @@
+package joko.parser;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the cost of parsing single commands.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class ParserBenchmark {
+    private String deadlineInput = "deadline submit the final report /by 19/10/2026 1800";
+    private String eventInput = "event project meeting /from Mon 2pm /to 4pm";
+    private String markInput = "mark 42";
+
+    /**
+     * Extracts the command keyword from a command with arguments.
+     */
+    @Benchmark
+    public String getCommandType() {
+        return Parser.getCommandType(deadlineInput);
+    }
+
+    /**
+     * Parses a deadline including its date-time.
+     */
+    @Benchmark
+    public Parser.Command parseDeadline() {
+        return Parser.parseDeadline(deadlineInput);
+    }
+
+    /**
+     * Parses an event with free-text times.
+     */
+    @Benchmark
+    public Parser.Command parseEvent() {
+        return Parser.parseEvent(eventInput);
+    }
+
+    /**
+     * Parses an index-based command.
+     */
+    @Benchmark
+    public Parser.Command parseIndexCommand() {
+        return Parser.parseIndexCommand(markInput, "mark");
+    }
+}
@@ -0,0 +1,90 @@
+package joko.storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import joko.BenchmarkData;
+import joko.task.TaskList;
+
+/**
+ * Measures the latency of a single {@code mark} command at each {@link Durability} level.
+ * <p>
+ * {@code plain} rewrites the whole file atomically on every command, {@code journal} appends one
+ * record and {@code patch} overwrites one byte. Under {@code BATCH} the {@code markAndFlush}
+ * benchmark shows the cost of the force that ends each batch.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class DurabilityBenchmark {
+    @Param({"1000", "100000"})
+    private int size;
+
+    @Param({"plain", "journal", "patch"})
+    private String mode;
+
+    @Param({"NONE", "BATCH", "EVERY_WRITE"})
+    private Durability durability;
+
+    private File file;
+    private Storage storage;
+    private TaskList taskList;
+    private boolean isDone;
+
+    /**
+     * Writes a task file of the requested size and loads it with the storage under test.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = File.createTempFile("joko-durability", ".txt");
+        new Storage(file.getPath()).saveTasks(BenchmarkData.tasks(size));
+        storage = switch (mode) {
+        case "journal" -> new JournalStorage(file.getPath(), Integer.MAX_VALUE);
+        case "patch" -> new PatchingStorage(file.getPath());
+        default -> new Storage(file.getPath());
+        };
+        storage.setDurability(durability);
+        taskList = new TaskList(storage.loadTasks(), storage);
+    }
+
+    /**
+     * Closes the storage and deletes the benchmark files.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        storage.close();
+        file.delete();
+        new File(file.getPath() + ".log").delete();
+    }
+
+    /**
+     * Marks or unmarks one task, persisting the change.
+     */
+    @Benchmark
+    public void mark() {
+        isDone = !isDone;
+        taskList.markTask(size / 2, isDone);
+    }
+
+    /**
+     * Marks or unmarks one task and then flushes, as at the end of a batch.
+     */
+    @Benchmark
+    public void markAndFlush() {
+        mark();
+        storage.flush();
+    }
+}
@@ -0,0 +1,78 @@
+package joko.storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import joko.BenchmarkData;
+import joko.task.Task;
+
+/**
+ * Measures saving and loading whole task files in each storage format.
+ * <p>
+ * {@code text} is the {@link java.util.Scanner} loader, {@code mmap} the memory-mapped loader over
+ * the same text file, and {@code binary} the {@link BinaryStorage} format.
+ * </p>
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class StorageBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    @Param({"text", "mmap", "binary"})
+    private String format;
+
+    private ArrayList<Task> tasks;
+    private File file;
+    private Storage storage;
+
+    /**
+     * Generates the tasks and writes the file that the load benchmark reads.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        tasks = BenchmarkData.tasks(size);
+        file = File.createTempFile("joko-bench", format.equals("binary") ? BinaryStorage.EXTENSION : ".txt");
+        storage = format.equals("binary") ? new BinaryStorage(file.getPath()) : new Storage(file.getPath());
+        storage.setMemoryMapped(format.equals("mmap"));
+        storage.saveTasks(tasks);
+    }
+
+    /**
+     * Deletes the benchmark file.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        file.delete();
+    }
+
+    /**
+     * Rewrites the whole file.
+     */
+    @Benchmark
+    public void saveTasks() {
+        storage.saveTasks(tasks);
+    }
+
+    /**
+     * Reads the whole file back into tasks.
+     */
+    @Benchmark
+    public ArrayList<Task> loadTasks() {
+        return storage.loadTasks();
+    }
+}
@@ -0,0 +1,107 @@
+package joko.storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import joko.BenchmarkData;
+import joko.task.Task;
+
+/**
+ * Measures loading a large task file with and without the shared {@link joko.task.StringPool}.
+ * <p>
+ * Besides the load time, each iteration prints the heap retained by the loaded tasks, measured
+ * after a full GC, e.g. {@code [retained heap] mmap pooled: 161 MB}. The file comes from
+ * {@link BenchmarkData#recurringTasks(int)}, so event times and most descriptions repeat.
+ * </p>
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class StringPoolBenchmark {
+    @Param({"1000000"})
+    private int size;
+
+    @Param({"text", "mmap", "binary"})
+    private String format;
+
+    private File file;
+    private Storage storage;
+    private long retainedBytes;
+    private boolean isPooled;
+
+    /**
+     * Writes the file that the benchmarks load.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = File.createTempFile("joko-bench", format.equals("binary") ? BinaryStorage.EXTENSION : ".txt");
+        storage = format.equals("binary") ? new BinaryStorage(file.getPath()) : new Storage(file.getPath());
+        storage.setMemoryMapped(format.equals("mmap"));
+        storage.saveTasks(BenchmarkData.recurringTasks(size));
+    }
+
+    /**
+     * Prints the heap retained by the tasks loaded in the last iteration.
+     */
+    @TearDown(Level.Iteration)
+    public void printRetainedHeap() {
+        System.out.printf("%n[retained heap] %s %s: %d MB%n", format, isPooled ? "pooled" : "unpooled",
+                retainedBytes >> 20);
+    }
+
+    /**
+     * Deletes the benchmark file.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        file.delete();
+    }
+
+    /**
+     * Loads the file with repeated strings shared through the pool.
+     */
+    @Benchmark
+    @Fork(jvmArgsAppend = "-Xmx4g")
+    public ArrayList<Task> loadPooled() {
+        isPooled = true;
+        return measureLoad();
+    }
+
+    /**
+     * Loads the file with a new string for every field.
+     */
+    @Benchmark
+    @Fork(jvmArgsAppend = {"-Xmx4g", "-Djoko.intern=false"})
+    public ArrayList<Task> loadUnpooled() {
+        isPooled = false;
+        return measureLoad();
+    }
+
+    private ArrayList<Task> measureLoad() {
+        long before = usedHeap();
+        ArrayList<Task> tasks = storage.loadTasks();
+        retainedBytes = usedHeap() - before;
+        return tasks;
+    }
+
+    private static long usedHeap() {
+        System.gc();
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,92 @@
+package joko.task;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import joko.BenchmarkData;
+
+/**
+ * Measures the in-memory task list operations behind find, duplicate checks and delete.
+ * <p>
+ * Storage writes are disabled so only the list itself is measured.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class TaskListBenchmark {
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private TaskList taskList;
+    private Task absentTask;
+    private Task presentTask;
+
+    /**
+     * Builds a task list of the requested size.
+     */
+    @Setup
+    public void setUp() {
+        taskList = new TaskList(BenchmarkData.tasks(size), BenchmarkData.nullStorage());
+        taskList.setFindMode(TaskList.FindMode.KEYWORD);
+        presentTask = new ToDo(taskList.getTasks().get(size / 2 - size / 2 % 3).getDesc());
+        absentTask = new ToDo("not in the list");
+    }
+
+    /**
+     * Finds tasks by a single keyword.
+     */
+    @Benchmark
+    public Object findOneKeyword() {
+        return taskList.findTasks("report");
+    }
+
+    /**
+     * Finds tasks by two keywords that rarely occur together.
+     */
+    @Benchmark
+    public Object findTwoKeywords() {
+        return taskList.findTasks("report exam");
+    }
+
+    /**
+     * Finds tasks with the old substring scan.
+     */
+    @Benchmark
+    public Object findBySubstring() {
+        return taskList.findTasksBySubstring("report");
+    }
+
+    /**
+     * Checks for a task that is in the list.
+     */
+    @Benchmark
+    public boolean containsPresent() {
+        return taskList.contains(presentTask);
+    }
+
+    /**
+     * Checks for a task that is not in the list.
+     */
+    @Benchmark
+    public boolean containsAbsent() {
+        return taskList.contains(absentTask);
+    }
+
+    /**
+     * Deletes the middle task and appends it again, keeping the list size constant.
+     */
+    @Benchmark
+    public Task deleteMiddleAndReAdd() {
+        Task removed = taskList.deleteTask(taskList.size() / 2);
+        return taskList.addTask(removed);
+    }
+}
@@ -1,21 +1,37 @@
 package joko;
 
-import joko.parser.Parser;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+
+import joko.command.CommandEngine;
+import joko.command.CommandResult;
+import joko.server.TaskServer;
+import joko.storage.DeferredStorage;
 import joko.storage.Storage;
-import joko.task.Deadline;
-import joko.task.Event;
-import joko.task.Task;
+import joko.task.ConcurrentTaskList;
 import joko.task.TaskList;
-import joko.task.ToDo;
 import joko.ui.Ui;
 
 
 /**
  * The main class of the Joko task manager application.
  *
- * <p>This class handles the user interface, task storage, and command parsing.
- * It runs the main program loop where users can add, list, mark/unmark, find
- * and delete tasks.</p>
+ * <p>This class sets up the user interface and task storage, and runs the main program
+ * loop where users can add, list, mark/unmark, find and delete tasks. Each command is run
+ * by a {@link CommandEngine} and its result shown by the {@link Ui}.</p>
+ *
+ * <p>With {@code --batch [file]}, commands are instead read from the file (or from
+ * standard input if no file is given) without prompting, output is buffered, the task
+ * file is written once at the end, and a throughput and latency summary is printed.
+ * Adding {@code --quiet} suppresses everything but the summary.</p>
+ *
+ * <p>With {@code --server [port]}, no commands are read; instead a {@link TaskServer} exposes
+ * the tasks as JSON endpoints on localhost until the process is stopped.</p>
  */
 public class Joko {
 
@@ -24,103 +40,166 @@ public class Joko {
      * The entry point of the Joko application.
      *
      * <p>It initializes the UI and storage, loads tasks, runs the main program loop,
-     * and closes the UI when the user exits.</p>
+     * and closes the storage and UI when the user exits.</p>
      *
-     * @param args command-line arguments (not used)
+     * @param args command-line arguments: {@code --batch [file]} and {@code --quiet} select batch mode,
+     *             and {@code --server [port]} selects server mode
      */
     public static void main(String[] args) {
-        Ui ui = new Ui();
-        Storage storage = new Storage("task.txt");
-        TaskList taskList = new TaskList(storage.loadTasks(), storage);
-
-        ui.showWelcome(taskList.getTasks());
-        runMainLoop(ui, taskList);
-        ui.close();
-    }
-
-    private static void runMainLoop(Ui ui, TaskList taskList) {
-        while (true) {
-            String input = ui.readCommand();
-            String commandType = Parser.getCommandType(input);
-
-            if (commandType.equals("bye")) {
-                ui.showMessage("Bye. Hope to see you again soon!");
-                break;
+        try {
+            int server = Arrays.asList(args).indexOf("--server");
+            if (server >= 0) {
+                boolean hasPort = server + 1 < args.length && !args[server + 1].startsWith("--");
+                runServer(hasPort ? args[server + 1] : String.valueOf(TaskServer.DEFAULT_PORT));
+                return;
             }
 
-            if (commandType.equals("list")) {
-                handleList(taskList, ui);
-            } else if (commandType.equals("mark") || commandType.equals("unmark")) {
-                handleMarkUnmark(input, commandType, taskList, ui);
-            } else if (commandType.equals("todo") || commandType.equals("deadline") || commandType.equals("event")) {
-                handleAddTask(input, commandType, taskList, ui);
-            } else if (commandType.equals("delete")) {
-                handleDelete(input, taskList, ui);
-            } else if (commandType.equals("find")) {
-                handleFind(input, taskList, ui);
-            } else {
-                ui.showMessage("Sorry, I could not understand your command :(");
+            int batch = Arrays.asList(args).indexOf("--batch");
+            if (batch >= 0) {
+                boolean hasFile = batch + 1 < args.length && !args[batch + 1].startsWith("--");
+                boolean isQuiet = Arrays.asList(args).contains("--quiet");
+                runBatch(hasFile ? args[batch + 1] : null, isQuiet);
+                return;
             }
+
+            Ui ui = new Ui();
+            Storage storage = Storage.create("task.txt");
+            TaskList taskList = new TaskList(storage.loadTasks(), storage);
+
+            ui.showWelcome(taskList.getTasks());
+            showStorageError(storage, ui);
+            runMainLoop(ui, new CommandEngine(taskList));
+            storage.close();
+            showStorageError(storage, ui);
+            ui.close();
+        } catch (UncheckedIOException e) {
+            System.out.println("Error loading tasks: " + e.getCause().getMessage());
+            System.out.println("Joko will not start, so that the file is not overwritten.");
+            System.exit(1);
         }
     }
 
-    private static void handleList(TaskList taskList, Ui ui) {
-        ui.showTaskList(taskList.getTasks());
+    private static void runMainLoop(Ui ui, CommandEngine engine) {
+        boolean isRunning = true;
+        while (isRunning) {
+            isRunning = executeCommand(ui.readCommand(), engine, ui);
+        }
     }
 
-    private static void handleMarkUnmark(String input, String commandType, TaskList taskList, Ui ui) {
+    /**
+     * Runs commands from a file or standard input, persisting once at the end.
+     *
+     * @param filename the command file, or {@code null} to read standard input
+     * @param isQuiet  whether to suppress the output of each command
+     */
+    private static void runBatch(String filename, boolean isQuiet) {
+        InputStream in;
         try {
-            Parser.Command cmd = Parser.parseIndexCommand(input, commandType);
-            Task task = taskList.markTask(cmd.index, commandType.equals("mark"));
-            ui.showTaskMarked(task, commandType.equals("mark"));
-        } catch (Exception e) {
-            ui.showMessage("Please type a valid input: <mark/unmark> <task number>");
+            in = filename == null ? System.in : new FileInputStream(filename);
+        } catch (FileNotFoundException e) {
+            System.out.println("Error opening batch file: " + e.getMessage());
+            return;
         }
+        Ui ui = new Ui(in, isQuiet ? OutputStream.nullOutputStream() : System.out);
+        Storage storage = new DeferredStorage(Storage.create("task.txt"));
+        CommandEngine engine = new CommandEngine(new TaskList(storage.loadTasks(), storage));
+
+        long[] latencies = new long[1024];
+        int count = 0;
+        long start = System.nanoTime();
+        while (ui.hasNextCommand()) {
+            String input = ui.readCommand();
+            if (input.isBlank()) {
+                continue;
+            }
+            long commandStart = System.nanoTime();
+            boolean isRunning = executeCommand(input, engine, ui);
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = System.nanoTime() - commandStart;
+            if (!isRunning) {
+                break;
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        ui.close();
+
+        long saveStart = System.nanoTime();
+        storage.close();
+        long saveElapsed = System.nanoTime() - saveStart;
+        String error = storage.takeError();
+        if (error != null) {
+            System.out.println(error);
+        }
+
+        Arrays.sort(latencies, 0, count);
+        System.out.printf("Ran %d commands in %.1f ms (%.0f commands/s), p50 %.1f us, p99 %.1f us; saved in %.1f ms%n",
+                count, elapsed / 1e6, count / Math.max(elapsed / 1e9, 1e-9),
+                percentile(latencies, count, 0.50) / 1e3, percentile(latencies, count, 0.99) / 1e3,
+                saveElapsed / 1e6);
     }
 
-    private static void handleAddTask(String input, String commandType, TaskList taskList, Ui ui) {
+    /**
+     * Serves the task list over HTTP until the process is stopped, then saves and closes the storage.
+     *
+     * @param port the port to listen on
+     */
+    private static void runServer(String port) {
+        Storage storage = Storage.create("task.txt");
+        ConcurrentTaskList taskList = new ConcurrentTaskList(storage.loadTasks(), storage);
+        TaskServer server;
         try {
-            Parser.Command cmd = switch (commandType) {
-            case "todo" -> Parser.parseTodo(input);
-            case "deadline" -> Parser.parseDeadline(input);
-            case "event" -> Parser.parseEvent(input);
-            default -> throw new IllegalArgumentException("Unknown command type");
-            };
-
-            Task newTask = switch (cmd.type) {
-            case "todo" -> new ToDo(cmd.desc);
-            case "deadline" -> new Deadline(cmd.desc, cmd.by);
-            default -> new Event(cmd.desc, cmd.from, cmd.to);
-            };
-
-            if (taskList.contains(newTask)) {
-                ui.showMessage("Duplicate task detected! Task not added.");
-                return;
+            server = new TaskServer(taskList, Integer.parseInt(port));
+        } catch (IOException | IllegalArgumentException e) {
+            System.out.println("Error starting server: " + e.getMessage());
+            storage.close();
+            return;
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.stop();
+            storage.close();
+            String error = storage.takeError();
+            if (error != null) {
+                System.out.println(error);
             }
+        }));
+        server.start();
+        System.out.println("Joko is serving " + taskList.size() + " tasks at http://localhost:"
+                + server.getPort() + "/tasks (Ctrl+C to stop)");
+    }
 
-            taskList.addTask(newTask);
-            ui.showTaskAdded(newTask, taskList.size());
-        } catch (Exception e) {
-            ui.showMessage("Error adding task: " + e.getMessage());
+    /**
+     * Shows the error of a save that was not part of a command, such as the final one, if any.
+     */
+    private static void showStorageError(Storage storage, Ui ui) {
+        String error = storage.takeError();
+        if (error != null) {
+            ui.showMessage(error);
         }
     }
 
-    private static void handleDelete(String input, TaskList taskList, Ui ui) {
-        try {
-            Parser.Command cmd = Parser.parseIndexCommand(input, "delete");
-            Task removed = taskList.deleteTask(cmd.index);
-            ui.showTaskDeleted(removed, taskList.size());
-        } catch (Exception e) {
-            ui.showMessage("Please type a valid input: <delete> <task number>");
+    /**
+     * Returns the nearest-rank percentile of the first {@code count} sorted values, or 0 if there are none.
+     */
+    private static long percentile(long[] sorted, int count, double fraction) {
+        if (count == 0) {
+            return 0;
         }
+        return sorted[Math.max((int) Math.ceil(fraction * count) - 1, 0)];
     }
 
-    private static void handleFind(String input, TaskList taskList, Ui ui) {
-        try {
-            Parser.Command cmd = Parser.parseFind(input);
-            ui.showFoundTasks(taskList.findTasks(cmd.desc));
-        } catch (Exception e) {
-            ui.showMessage("Please provide a valid keyword to find.");
-        }
+    /**
+     * Runs a single command and shows its result.
+     *
+     * @param input  the raw user input
+     * @param engine the engine that runs commands
+     * @param ui     the ui to report to
+     * @return {@code false} if the command was {@code bye}, {@code true} otherwise
+     */
+    private static boolean executeCommand(String input, CommandEngine engine, Ui ui) {
+        CommandResult result = engine.execute(input);
+        ui.show(result);
+        return !result.isExit();
     }
 }
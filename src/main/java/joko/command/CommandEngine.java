@@ -0,0 +1,174 @@
+package joko.command;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import joko.parser.Parser;
+import joko.task.Deadline;
+import joko.task.Event;
+import joko.task.Task;
+import joko.task.TaskList;
+import joko.task.ToDo;
+
+/**
+ * Runs user commands against a task list, for every front end.
+ * <p>
+ * Each input is parsed once into a {@link Parser.Command} and run by the handler registered for
+ * its keyword. The handlers are looked up in a table built when the engine is created, so
+ * dispatch is one hash lookup however many commands there are. Commands return a
+ * {@link CommandResult} instead of printing, which the command line {@link joko.ui.Ui} and the
+ * GUI render in their own way; invalid input returns a usage hint as a message.
+ * </p>
+ */
+public class CommandEngine {
+    private static final String MARK_USAGE = "Please type a valid input: <mark/unmark> <task number | from-to "
+            + "| n,n,... | --done | --find <keyword>>";
+    private static final String DELETE_USAGE = "Please type a valid input: <delete> <task number | from-to "
+            + "| n,n,... | --done | --find <keyword>>";
+    private static final String SCHEDULE_USAGE = "Please type a valid input: conflicts | on <d/M/yyyy> "
+            + "| free <d/M/yyyy> | free between <d/M/yyyy HHmm> and <d/M/yyyy HHmm>";
+
+    /** The list that commands act on. */
+    private final TaskList taskList;
+
+    /** The handler of each command keyword, as returned by {@link Parser#getCommandType(String)}. */
+    private final Map<String, Handler> handlers = new HashMap<>();
+
+    /**
+     * Constructs a new {@code CommandEngine} that acts on the given task list.
+     *
+     * @param taskList the list that commands act on
+     */
+    public CommandEngine(TaskList taskList) {
+        this.taskList = taskList;
+
+        register("bye", input -> new Parser.Command("bye"),
+                cmd -> CommandResult.exit("Bye. Hope to see you again soon!"), e -> null);
+        register("list", Parser::parseList, this::list,
+                e -> "Please type a valid input: list [<from>-<to> | --page <n>]");
+        register("mark", input -> Parser.parseIndexCommand(input, "mark"), cmd -> mark(cmd, true), e -> MARK_USAGE);
+        register("unmark", input -> Parser.parseIndexCommand(input, "unmark"), cmd -> mark(cmd, false),
+                e -> MARK_USAGE);
+        register("todo", Parser::parseTodo, cmd -> add(new ToDo(cmd.desc)), CommandEngine::addError);
+        register("deadline", Parser::parseDeadline, cmd -> add(new Deadline(cmd.desc, cmd.by)),
+                CommandEngine::addError);
+        register("event", Parser::parseEvent, cmd -> add(cmd.start != null
+                ? new Event(cmd.desc, cmd.start, cmd.end)
+                : new Event(cmd.desc, cmd.from, cmd.to)), CommandEngine::addError);
+        register("delete", input -> Parser.parseIndexCommand(input, "delete"), this::delete, e -> DELETE_USAGE);
+        register("find", Parser::parseFind, cmd -> CommandResult.foundTasks(taskList.findTasks(cmd.desc)),
+                e -> "Please provide a valid keyword to find.");
+        register("due", Parser::parseDue, this::due, e -> "Please type a valid input: due <before | after> "
+                + "<d/M/yyyy HHmm> | due between <d/M/yyyy HHmm> and <d/M/yyyy HHmm>");
+        register("on", Parser::parseOn,
+                cmd -> CommandResult.foundTasks(taskList.findOn(cmd.start.toLocalDate())), e -> SCHEDULE_USAGE);
+        register("free", Parser::parseFree,
+                cmd -> CommandResult.freeSlots(taskList.findFreeSlots(cmd.start, cmd.end)), e -> SCHEDULE_USAGE);
+        register("conflicts", input -> new Parser.Command("conflicts"),
+                cmd -> CommandResult.conflicts(taskList.findConflicts()), e -> SCHEDULE_USAGE);
+    }
+
+    /**
+     * Parses and runs a single command.
+     *
+     * @param input the raw user input
+     * @return what to show the user, or the storage error if a change could not be saved;
+     *         {@link CommandResult#isExit()} is {@code true} for {@code bye}
+     */
+    public CommandResult execute(String input) {
+        Handler handler = handlers.get(Parser.getCommandType(input));
+        if (handler == null) {
+            return CommandResult.message("Sorry, I could not understand your command :(");
+        }
+        CommandResult result;
+        try {
+            result = handler.action.apply(handler.parser.apply(input));
+        } catch (RuntimeException e) {
+            return CommandResult.message(handler.usage.apply(e));
+        }
+        String error = taskList.takeStorageError();
+        if (error != null) {
+            return CommandResult.message(error + System.lineSeparator() + "Your changes may not have been saved.");
+        }
+        return result;
+    }
+
+    /**
+     * Lists the requested range or page of tasks, or every task for a plain {@code list}.
+     */
+    private CommandResult list(Parser.Command cmd) {
+        if (cmd.rangeStart < 0) {
+            return CommandResult.taskList(taskList.getTasks());
+        }
+        return CommandResult.taskList(taskList.getTasks(), cmd.rangeStart, cmd.rangeEnd);
+    }
+
+    private CommandResult mark(Parser.Command cmd, boolean isDone) {
+        if (cmd.isBulk()) {
+            return CommandResult.tasksMarked(taskList.markTasks(selectTasks(cmd), isDone).size(), isDone);
+        }
+        return CommandResult.taskMarked(taskList.markTask(cmd.index, isDone), isDone);
+    }
+
+    private CommandResult add(Task task) {
+        if (taskList.addTaskIfAbsent(task) == null) {
+            return CommandResult.message("Duplicate task detected! Task not added.");
+        }
+        return CommandResult.taskAdded(task, taskList.size());
+    }
+
+    private CommandResult delete(Parser.Command cmd) {
+        if (cmd.isBulk()) {
+            int count = taskList.deleteTasks(selectTasks(cmd)).size();
+            return CommandResult.tasksDeleted(count, taskList.size());
+        }
+        Task removed = taskList.deleteTask(cmd.index);
+        return CommandResult.taskDeleted(removed, taskList.size());
+    }
+
+    private CommandResult due(Parser.Command cmd) {
+        return CommandResult.foundTasks(switch (cmd.desc) {
+        case "before" -> taskList.findDueBefore(cmd.end);
+        case "after" -> taskList.findDueAfter(cmd.start);
+        default -> taskList.findDueBetween(cmd.start, cmd.end);
+        });
+    }
+
+    /**
+     * Returns the positions selected by a bulk {@code mark}, {@code unmark} or {@code delete}.
+     */
+    private int[] selectTasks(Parser.Command cmd) {
+        if (cmd.ranges != null) {
+            return cmd.positions(taskList.size());
+        } else if (cmd.isDoneOnly) {
+            return taskList.indicesOfDone();
+        } else if (cmd.desc != null) {
+            return taskList.indicesOfMatches(cmd.desc);
+        }
+        return taskList.indicesOfRange(cmd.rangeStart, cmd.rangeEnd);
+    }
+
+    private static String addError(RuntimeException e) {
+        return "Error adding task: " + e.getMessage();
+    }
+
+    private void register(String type, Function<String, Parser.Command> parser,
+            Function<Parser.Command, CommandResult> action, Function<RuntimeException, String> usage) {
+        handlers.put(type, new Handler(parser, action, usage));
+    }
+
+    /** How to parse, run and report misuse of one command. */
+    private static final class Handler {
+        private final Function<String, Parser.Command> parser;
+        private final Function<Parser.Command, CommandResult> action;
+        private final Function<RuntimeException, String> usage;
+
+        private Handler(Function<String, Parser.Command> parser, Function<Parser.Command, CommandResult> action,
+                Function<RuntimeException, String> usage) {
+            this.parser = parser;
+            this.action = action;
+            this.usage = usage;
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package joko.command;
+
+import java.util.List;
+
+import joko.task.Event;
+import joko.task.Task;
+import joko.task.TimeSlot;
+
+/**
+ * The outcome of a command run by a {@link CommandEngine}.
+ * <p>
+ * A result only holds the data to show; the command line {@link joko.ui.Ui} and the GUI each
+ * render it in their own way. Which fields are set depends on the {@link Kind}; the rest are
+ * {@code null}, {@code -1} or {@code false}.
+ * </p>
+ */
+public final class CommandResult {
+    /**
+     * The kinds of result, one per way a front end shows them.
+     */
+    public enum Kind {
+        /** A plain {@link #message}, such as an error or usage hint. */
+        MESSAGE,
+        /** The farewell {@link #message}; the front end should stop reading commands. */
+        EXIT,
+        /** All {@link #tasks}, or those in {@code [rangeStart, rangeEnd)} if {@link #rangeStart} is set. */
+        TASK_LIST,
+        /** The added {@link #task} and the new {@link #size}. */
+        TASK_ADDED,
+        /** The deleted {@link #task} and the new {@link #size}. */
+        TASK_DELETED,
+        /** The marked {@link #task} and whether it is now done. */
+        TASK_MARKED,
+        /** The {@link #count} of tasks deleted in bulk and the new {@link #size}. */
+        TASKS_DELETED,
+        /** The {@link #count} of tasks marked in bulk and whether they are now done. */
+        TASKS_MARKED,
+        /** The {@link #tasks} found by a search or query. */
+        FOUND_TASKS,
+        /** The overlapping pairs of events in {@link #conflicts}. */
+        CONFLICTS,
+        /** The free time {@link #slots} in a range. */
+        FREE_SLOTS
+    }
+
+    /** The kind of result. */
+    public final Kind kind;
+
+    /** The message of a {@code MESSAGE} or {@code EXIT} result. */
+    public final String message;
+
+    /** The task added, deleted or marked. */
+    public final Task task;
+
+    /** The tasks listed or found. */
+    public final List<Task> tasks;
+
+    /** The number of tasks changed by a bulk command, or -1. */
+    public final int count;
+
+    /** The number of tasks left in the list after an add or delete, or -1. */
+    public final int size;
+
+    /** Whether the marked tasks are now done. */
+    public final boolean isDone;
+
+    /** The first position to list (0-based, inclusive), or -1 to list every task. */
+    public final int rangeStart;
+
+    /** The position after the last one to list (0-based, exclusive), or -1 to list every task. */
+    public final int rangeEnd;
+
+    /** The conflicting pairs, each an array of two events. */
+    public final List<Event[]> conflicts;
+
+    /** The free time slots, earliest first. */
+    public final List<TimeSlot> slots;
+
+    private CommandResult(Kind kind, String message, Task task, List<Task> tasks, int count, int size,
+            boolean isDone, int rangeStart, int rangeEnd, List<Event[]> conflicts, List<TimeSlot> slots) {
+        this.kind = kind;
+        this.message = message;
+        this.task = task;
+        this.tasks = tasks;
+        this.count = count;
+        this.size = size;
+        this.isDone = isDone;
+        this.rangeStart = rangeStart;
+        this.rangeEnd = rangeEnd;
+        this.conflicts = conflicts;
+        this.slots = slots;
+    }
+
+    /**
+     * Returns a plain message.
+     *
+     * @param message the message to show
+     * @return the result
+     */
+    public static CommandResult message(String message) {
+        return new CommandResult(Kind.MESSAGE, message, null, null, -1, -1, false, -1, -1, null, null);
+    }
+
+    /**
+     * Returns the farewell message that ends a session.
+     *
+     * @param message the message to show
+     * @return the result
+     */
+    public static CommandResult exit(String message) {
+        return new CommandResult(Kind.EXIT, message, null, null, -1, -1, false, -1, -1, null, null);
+    }
+
+    /**
+     * Returns every task in the list.
+     *
+     * @param tasks the tasks to list
+     * @return the result
+     */
+    public static CommandResult taskList(List<Task> tasks) {
+        return new CommandResult(Kind.TASK_LIST, null, null, tasks, -1, -1, false, -1, -1, null, null);
+    }
+
+    /**
+     * Returns the tasks at positions {@code [start, end)} of the list.
+     *
+     * @param tasks the full list of tasks
+     * @param start the first position to list (0-based, inclusive)
+     * @param end   the position after the last one to list (0-based, exclusive)
+     * @return the result
+     */
+    public static CommandResult taskList(List<Task> tasks, int start, int end) {
+        return new CommandResult(Kind.TASK_LIST, null, null, tasks, -1, -1, false, start, end, null, null);
+    }
+
+    /**
+     * Returns a task that was added.
+     *
+     * @param task the task added
+     * @param size the new number of tasks
+     * @return the result
+     */
+    public static CommandResult taskAdded(Task task, int size) {
+        return new CommandResult(Kind.TASK_ADDED, null, task, null, -1, size, false, -1, -1, null, null);
+    }
+
+    /**
+     * Returns a task that was deleted.
+     *
+     * @param task the task removed
+     * @param size the new number of tasks
+     * @return the result
+     */
+    public static CommandResult taskDeleted(Task task, int size) {
+        return new CommandResult(Kind.TASK_DELETED, null, task, null, -1, size, false, -1, -1, null, null);
+    }
+
+    /**
+     * Returns a task that was marked or unmarked.
+     *
+     * @param task   the task updated
+     * @param isDone whether the task is now done
+     * @return the result
+     */
+    public static CommandResult taskMarked(Task task, boolean isDone) {
+        return new CommandResult(Kind.TASK_MARKED, null, task, null, -1, -1, isDone, -1, -1, null, null);
+    }
+
+    /**
+     * Returns the outcome of a bulk delete.
+     *
+     * @param count the number of tasks removed
+     * @param size  the new number of tasks
+     * @return the result
+     */
+    public static CommandResult tasksDeleted(int count, int size) {
+        return new CommandResult(Kind.TASKS_DELETED, null, null, null, count, size, false, -1, -1, null, null);
+    }
+
+    /**
+     * Returns the outcome of a bulk mark or unmark.
+     *
+     * @param count  the number of tasks updated
+     * @param isDone whether the tasks are now done
+     * @return the result
+     */
+    public static CommandResult tasksMarked(int count, boolean isDone) {
+        return new CommandResult(Kind.TASKS_MARKED, null, null, null, count, -1, isDone, -1, -1, null, null);
+    }
+
+    /**
+     * Returns the tasks found by a search or query.
+     *
+     * @param tasks the matching tasks
+     * @return the result
+     */
+    public static CommandResult foundTasks(List<Task> tasks) {
+        return new CommandResult(Kind.FOUND_TASKS, null, null, tasks, -1, -1, false, -1, -1, null, null);
+    }
+
+    /**
+     * Returns the pairs of events whose times overlap.
+     *
+     * @param conflicts the conflicting pairs, each an array of two events
+     * @return the result
+     */
+    public static CommandResult conflicts(List<Event[]> conflicts) {
+        return new CommandResult(Kind.CONFLICTS, null, null, null, -1, -1, false, -1, -1, conflicts, null);
+    }
+
+    /**
+     * Returns the free time slots found in a range.
+     *
+     * @param slots the free time slots, earliest first
+     * @return the result
+     */
+    public static CommandResult freeSlots(List<TimeSlot> slots) {
+        return new CommandResult(Kind.FREE_SLOTS, null, null, null, -1, -1, false, -1, -1, null, slots);
+    }
+
+    /**
+     * Returns whether the front end should stop reading commands after showing this result.
+     *
+     * @return {@code true} for the result of {@code bye}
+     */
+    public boolean isExit() {
+        return kind == Kind.EXIT;
+    }
+}
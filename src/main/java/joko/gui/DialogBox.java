@@ -1,70 +1,69 @@
 package joko.gui;
 
-import java.io.IOException;
-import java.util.Collections;
-
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
-import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
+import javafx.geometry.Insets;
 import javafx.geometry.Pos;
-import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
+import javafx.scene.layout.Region;
 
 /**
  * Represents a dialog box consisting of an ImageView to represent the speaker's face
  * and a label containing text from the speaker.
+ * <p>
+ * The nodes are built in code with the same layout as {@code /view/DialogBox.fxml},
+ * which avoids parsing the FXML for every message.
+ * </p>
  */
 public class DialogBox extends HBox {
-    @FXML
-    private Label dialog = new Label();
-    @FXML
-    private ImageView displayPicture = new ImageView();
-
-    private DialogBox(String text, Image img) {
-        assert text != null : "Dialog text should not be null";
-        assert img != null : "Dialog image should not be null";
+    private final Label dialog = new Label();
+    private final ImageView displayPicture = new ImageView();
 
+    /**
+     * Constructs an empty dialog box, to be filled in with {@link #setMessage(String, Image, boolean)}.
+     */
+    DialogBox() {
+        setAlignment(Pos.TOP_RIGHT);
+        setMaxHeight(Double.MAX_VALUE);
+        setMaxWidth(Double.MAX_VALUE);
+        setPrefWidth(400.0);
+        setPadding(new Insets(15.0, 5.0, 15.0, 5.0));
 
-        try {
-            FXMLLoader fxmlLoader = new FXMLLoader(MainWindow.class.getResource("/view/DialogBox.fxml"));
-            fxmlLoader.setController(this);
-            fxmlLoader.setRoot(this);
-            fxmlLoader.load();
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        dialog.setWrapText(true);
+        dialog.setMinHeight(Region.USE_PREF_SIZE);
+        dialog.setStyle("-fx-text-fill: black;");
 
-        assert dialog != null : "FXML failed to inject Label into DialogBox";
-        assert displayPicture != null : "FXML failed to inject ImageView into DialogBox";
+        displayPicture.setFitHeight(99.0);
+        displayPicture.setFitWidth(99.0);
+        displayPicture.setPickOnBounds(true);
+        displayPicture.setPreserveRatio(true);
 
-        dialog.setText(text);
-        displayPicture.setImage(img);
+        getChildren().addAll(dialog, displayPicture);
     }
 
     /**
-     * Flips the dialog box such that the ImageView is on the left and text on the right.
+     * Shows a message in this dialog box, laid out for its sender.
+     * <p>
+     * User messages have the text on the left and the picture on the right; Joko's messages are mirrored.
+     * </p>
+     *
+     * @param text   the message text
+     * @param img    the sender's picture
+     * @param isUser {@code true} if the user sent the message
      */
-    private void flip() {
-        ObservableList<Node> tmp = FXCollections.observableArrayList(this.getChildren());
-        assert !tmp.isEmpty() : "DialogBox children should not be empty when flipping";
-
-
-        Collections.reverse(tmp);
-        getChildren().setAll(tmp);
-        setAlignment(Pos.TOP_LEFT);
-    }
-
-    public static DialogBox getUserDialog(String text, Image img) {
-        return new DialogBox(text, img);
-    }
+    public void setMessage(String text, Image img, boolean isUser) {
+        assert text != null : "Dialog text should not be null";
+        assert img != null : "Dialog image should not be null";
 
-    public static DialogBox getJokoDialog(String text, Image img) {
-        var db = new DialogBox(text, img);
-        db.flip();
-        return db;
+        dialog.setText(text);
+        displayPicture.setImage(img);
+        if (isUser) {
+            getChildren().setAll(dialog, displayPicture);
+            setAlignment(Pos.TOP_RIGHT);
+        } else {
+            getChildren().setAll(displayPicture, dialog);
+            setAlignment(Pos.TOP_LEFT);
+        }
     }
 }
@@ -0,0 +1,45 @@
+package joko.gui;
+
+import javafx.scene.control.ContentDisplay;
+import javafx.scene.control.ListCell;
+import javafx.scene.image.Image;
+
+/**
+ * A list cell that shows a {@link DialogMessage} in a reusable {@link DialogBox}.
+ * <p>
+ * The list view only creates enough cells to fill the visible area and reuses them
+ * while scrolling, so the number of dialog boxes stays constant however long the
+ * conversation gets.
+ * </p>
+ */
+public class DialogCell extends ListCell<DialogMessage> {
+    private final DialogBox dialogBox = new DialogBox();
+    private final Image userImage;
+    private final Image jokoImage;
+
+    /**
+     * Constructs a new {@code DialogCell}.
+     *
+     * @param userImage the picture shown next to the user's messages
+     * @param jokoImage the picture shown next to Joko's messages
+     */
+    public DialogCell(Image userImage, Image jokoImage) {
+        this.userImage = userImage;
+        this.jokoImage = jokoImage;
+        setContentDisplay(ContentDisplay.GRAPHIC_ONLY);
+        setPrefWidth(0);
+        dialogBox.prefWidthProperty().bind(widthProperty().subtract(20));
+        setStyle("-fx-background-color: transparent; -fx-padding: 0;");
+    }
+
+    @Override
+    protected void updateItem(DialogMessage message, boolean isEmpty) {
+        super.updateItem(message, isEmpty);
+        if (isEmpty || message == null) {
+            setGraphic(null);
+            return;
+        }
+        dialogBox.setMessage(message.getText(), message.isUser() ? userImage : jokoImage, message.isUser());
+        setGraphic(dialogBox);
+    }
+}
@@ -0,0 +1,43 @@
+package joko.gui;
+
+/**
+ * A single message in the conversation, kept as plain data so the GUI only
+ * builds nodes for the messages that are actually on screen.
+ */
+public class DialogMessage {
+    /** The text of the message. */
+    private final String text;
+
+    /** Whether the message was typed by the user rather than sent by Joko. */
+    private final boolean isUser;
+
+    /**
+     * Constructs a new {@code DialogMessage}.
+     *
+     * @param text   the text of the message
+     * @param isUser {@code true} if the user sent the message, {@code false} if Joko did
+     */
+    public DialogMessage(String text, boolean isUser) {
+        assert text != null : "Message text should not be null";
+        this.text = text;
+        this.isUser = isUser;
+    }
+
+    /**
+     * Returns the text of the message.
+     *
+     * @return the message text
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Returns whether the message was typed by the user.
+     *
+     * @return {@code true} for user messages, {@code false} for Joko's responses
+     */
+    public boolean isUser() {
+        return isUser;
+    }
+}
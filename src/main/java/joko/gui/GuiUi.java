@@ -1,8 +1,11 @@
 package joko.gui;
 
-import java.util.ArrayList;
+import java.util.List;
 
+import joko.command.CommandResult;
+import joko.task.Event;
 import joko.task.Task;
+import joko.task.TimeSlot;
 
 /**
  * Handles the user interface for the Joko task manager application in a GUI context.
@@ -13,16 +16,37 @@ import joko.task.Task;
  */
 public class GuiUi {
 
+    /**
+     * Returns the result of a command as text.
+     *
+     * @param result the result to display
+     * @return the formatted response
+     */
+    public String show(CommandResult result) {
+        return switch (result.kind) {
+        case MESSAGE, EXIT -> showMessage(result.message);
+        case TASK_LIST -> result.rangeStart < 0
+                ? showTaskList(result.tasks)
+                : showTaskList(result.tasks, result.rangeStart, result.rangeEnd);
+        case TASK_ADDED -> showTaskAdded(result.task, result.size);
+        case TASK_DELETED -> showTaskDeleted(result.task, result.size);
+        case TASK_MARKED -> showTaskMarked(result.task, result.isDone);
+        case TASKS_DELETED -> showTasksDeleted(result.count, result.size);
+        case TASKS_MARKED -> showTasksMarked(result.count, result.isDone);
+        case FOUND_TASKS -> showFoundTasks(result.tasks);
+        case CONFLICTS -> showConflicts(result.conflicts);
+        case FREE_SLOTS -> showFreeSlots(result.slots);
+        };
+    }
+
     /**
      * Returns a welcome message along with the current tasks in the list.
      *
      * @param tasks the list of tasks to display
      * @return the welcome message
      */
-    public String showWelcome(ArrayList<Task> tasks) {
-        StringBuilder sb = new StringBuilder();
-        sb.append(showTaskList(tasks));
-        return sb.toString();
+    public String showWelcome(List<Task> tasks) {
+        return showTaskList(tasks);
     }
 
     /**
@@ -31,15 +55,46 @@ public class GuiUi {
      * @param tasks the list of tasks
      * @return the formatted task list
      */
-    public String showTaskList(ArrayList<Task> tasks) {
+    public String showTaskList(List<Task> tasks) {
         StringBuilder sb = new StringBuilder();
         if (tasks.isEmpty()) {
             sb.append("No tasks in your list yet.\n");
         } else {
             sb.append("Here are the tasks in your list:\n");
-            for (int i = 0; i < tasks.size(); i++) {
+            int number = 0;
+            for (Task t : tasks) {
+                sb.append(++number).append(". ").append(t).append("\n");
+            }
+        }
+        return sb.toString().trim();
+    }
+
+    /**
+     * Returns the tasks at positions {@code [start, end)} of the list, numbered by their
+     * position in the full list.
+     *
+     * @param tasks the list of tasks
+     * @param start the first position to show (0-based, inclusive)
+     * @param end   the position after the last one to show (0-based, exclusive)
+     * @return the formatted slice of the task list
+     */
+    public String showTaskList(List<Task> tasks, int start, int end) {
+        assert start >= 0 && start <= end : "Range must be non-negative and ordered";
+        int last = Math.min(end, tasks.size());
+        StringBuilder sb = new StringBuilder();
+        if (tasks.isEmpty()) {
+            sb.append("No tasks in your list yet.");
+        } else if (start >= last) {
+            sb.append("There are only ").append(tasks.size()).append(" tasks in your list.");
+        } else {
+            sb.append("Here are tasks ").append(start + 1).append("-").append(last)
+                    .append(" of ").append(tasks.size()).append(" in your list:\n");
+            for (int i = start; i < last; i++) {
                 sb.append((i + 1)).append(". ").append(tasks.get(i)).append("\n");
             }
+            if (last < tasks.size()) {
+                sb.append("Use \"list --page <n>\" or \"list <from>-<to>\" to see more.");
+            }
         }
         return sb.toString().trim();
     }
@@ -99,22 +154,87 @@ public class GuiUi {
         }
     }
 
+    /**
+     * Returns a message indicating that several tasks have been deleted by a bulk command.
+     *
+     * @param count the number of tasks removed
+     * @param size  the new number of tasks
+     * @return the formatted message
+     */
+    public String showTasksDeleted(int count, int size) {
+        assert count >= 0 && size >= 0 : "Counts must not be negative";
+        return "Noted. I've removed " + count + " tasks."
+                + "\nNow you have " + size + " tasks in the list.";
+    }
+
+    /**
+     * Returns a message indicating that several tasks have been marked/unmarked by a bulk command.
+     *
+     * @param count  the number of tasks updated
+     * @param isDone true if marked as done, false if unmarked
+     * @return the formatted message
+     */
+    public String showTasksMarked(int count, boolean isDone) {
+        assert count >= 0 : "Count must not be negative";
+        if (isDone) {
+            return "Nice! I've marked " + count + " tasks as done.";
+        } else {
+            return "OK, I've marked " + count + " tasks as not done yet.";
+        }
+    }
+
     /**
      * Returns a list of found tasks matching a search.
      *
      * @param tasks the matching tasks
      * @return the formatted message
      */
-    public String showFoundTasks(ArrayList<Task> tasks) {
+    public String showFoundTasks(List<Task> tasks) {
         StringBuilder sb = new StringBuilder();
         if (tasks.isEmpty()) {
             sb.append("No matching tasks found.");
         } else {
             sb.append("Here are the matching tasks in your list:\n");
-            for (int i = 0; i < tasks.size(); i++) {
-                sb.append((i + 1)).append(". ").append(tasks.get(i)).append("\n");
+            int number = 0;
+            for (Task t : tasks) {
+                sb.append(++number).append(". ").append(t).append("\n");
             }
         }
         return sb.toString().trim();
     }
+
+    /**
+     * Returns a message listing every pair of events whose times overlap.
+     *
+     * @param conflicts the conflicting pairs, each an array of two events
+     * @return the formatted message
+     */
+    public String showConflicts(List<Event[]> conflicts) {
+        if (conflicts.isEmpty()) {
+            return "No conflicting events found.";
+        }
+        StringBuilder sb = new StringBuilder("These events overlap:\n");
+        int number = 0;
+        for (Event[] pair : conflicts) {
+            sb.append(++number).append(". ").append(pair[0]).append("\n   and ").append(pair[1]).append("\n");
+        }
+        return sb.toString().trim();
+    }
+
+    /**
+     * Returns a message listing the free time slots found in a range.
+     *
+     * @param slots the free time slots, earliest first
+     * @return the formatted message
+     */
+    public String showFreeSlots(List<TimeSlot> slots) {
+        if (slots.isEmpty()) {
+            return "No free time in that range.";
+        }
+        StringBuilder sb = new StringBuilder("You are free at these times:\n");
+        for (TimeSlot slot : slots) {
+            sb.append("  ").append(slot).append("\n");
+        }
+        return sb.toString().trim();
+    }
 }
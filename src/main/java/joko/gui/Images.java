@@ -0,0 +1,36 @@
+package joko.gui;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javafx.scene.image.Image;
+
+/**
+ * Loads images from the application resources, decoding each one only once.
+ */
+public final class Images {
+    /** The picture shown next to the user's messages. */
+    public static final String USER = "/images/Zayyan.jpeg";
+
+    /** The picture shown next to Joko's messages. */
+    public static final String JOKO = "/images/Anomali.jpeg";
+
+    private static final Map<String, Image> CACHE = new ConcurrentHashMap<>();
+
+    private Images() {
+    }
+
+    /**
+     * Returns the image at the given resource path, loading it on first use.
+     *
+     * @param path the resource path of the image, e.g. {@link #USER}
+     * @return the shared decoded image
+     */
+    public static Image get(String path) {
+        return CACHE.computeIfAbsent(path, p -> {
+            var stream = Images.class.getResourceAsStream(p);
+            assert stream != null : "Image resource not found: " + p;
+            return new Image(stream);
+        });
+    }
+}
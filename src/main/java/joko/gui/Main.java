@@ -15,6 +15,8 @@ public class Main extends Application {
 
     private GuiJoko guiJoko = new GuiJoko();
 
+    private MainWindow controller;
+
     @Override
     public void start(Stage stage) {
         try {
@@ -28,7 +30,7 @@ public class Main extends Application {
             Scene scene = new Scene(ap);
             stage.setScene(scene);
 
-            MainWindow controller = fxmlLoader.getController();
+            controller = fxmlLoader.getController();
             assert controller != null : "Controller should not be null after FXML load.";
 
             assert guiJoko != null : "GuiJoko should be initialized before injection.";
@@ -39,4 +41,12 @@ public class Main extends Application {
             e.printStackTrace();
         }
     }
+
+    @Override
+    public void stop() {
+        if (controller != null) {
+            controller.shutdown();
+        }
+        guiJoko.close();
+    }
 }
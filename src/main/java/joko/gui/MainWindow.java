@@ -1,56 +1,98 @@
 package joko.gui;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
-import javafx.scene.control.ScrollPane;
+import javafx.scene.control.ListView;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.TextField;
 import javafx.scene.image.Image;
 import javafx.scene.layout.AnchorPane;
-import javafx.scene.layout.VBox;
+import javafx.util.Duration;
 
 /**
  * Controller for the main GUI of the Joko application.
  * <p>
  * This class manages the interaction between the user and the Joko logic,
  * displaying dialog boxes in the GUI for both user input and Joko's responses.
+ * The conversation is kept as a list of {@link DialogMessage}s shown in a
+ * virtualized {@link ListView}, so only the visible messages have nodes, and
+ * only the most recent {@link #MAX_MESSAGES} messages are kept.
+ * </p>
+ * <p>
+ * Commands run one at a time, in the order they were entered, on a background
+ * thread so the window stays responsive; responses are posted back to the
+ * JavaFX Application Thread.
  * </p>
  */
 public class MainWindow extends AnchorPane {
+    /** The number of most recent messages kept in the conversation. */
+    public static final int MAX_MESSAGES = 2000;
+
+    private static final String GREETING = "Hello! I'm Joko. How can I help you today?";
+
+    /** How long a command may run before the busy indicator appears. */
+    private static final Duration BUSY_DELAY = Duration.millis(150);
+
     @FXML
-    private ScrollPane scrollPane;
-    @FXML
-    private VBox dialogContainer;
+    private ListView<DialogMessage> dialogList;
     @FXML
     private TextField userInput;
     @FXML
     private Button sendButton;
+    @FXML
+    private ProgressIndicator busyIndicator;
 
     private GuiJoko guiJoko;
 
-    private Image userImage = new Image(this.getClass().getResourceAsStream("/images/Zayyan.jpeg"));
-    private Image dukeImage = new Image(this.getClass().getResourceAsStream("/images/Anomali.jpeg"));
+    private Image userImage = Images.get(Images.USER);
+    private Image dukeImage = Images.get(Images.JOKO);
+
+    private final ObservableList<DialogMessage> messages = FXCollections.observableArrayList();
+
+    private final ExecutorService commandExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "joko-command");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final PauseTransition busyDelay = new PauseTransition(BUSY_DELAY);
+
+    /** The number of commands submitted but not yet answered. Only touched on the FX thread. */
+    private int pendingCommands;
+
     /**
      * Initializes the controller.
      * <p>
-     * Sets up the GUIJoko instance and binds the scroll pane's vertical scroll
-     * value to the height of the dialog container so that it scrolls automatically.
+     * Sets up the GUIJoko instance and connects the message list to the list view,
+     * which renders each message with a reusable {@link DialogCell}.
      * </p>
      */
     @FXML
     public void initialize() {
-        assert scrollPane != null : "ScrollPane must be injected by FXML";
-        assert dialogContainer != null : "DialogContainer must be injected by FXML";
+        assert dialogList != null : "DialogList must be injected by FXML";
         assert userInput != null : "UserInput must be injected by FXML";
         assert sendButton != null : "SendButton must be injected by FXML";
+        assert busyIndicator != null : "BusyIndicator must be injected by FXML";
 
         guiJoko = new GuiJoko();
-        scrollPane.vvalueProperty().bind(dialogContainer.heightProperty());
+        dialogList.setItems(messages);
+        dialogList.setCellFactory(list -> new DialogCell(userImage, dukeImage));
+        busyDelay.setOnFinished(event -> busyIndicator.setVisible(pendingCommands > 0));
+        addMessages(new DialogMessage(GREETING, false));
     }
 
     /**
      * Injects a {@link GuiJoko} instance into the controller.
      * <p>
-     * Also adds Joko's welcome message to the dialog container when the instance is set.
+     * Also adds Joko's welcome message to the conversation when the instance is set.
      * </p>
      *
      * @param j the {@code GuiJoko} instance to set
@@ -62,34 +104,79 @@ public class MainWindow extends AnchorPane {
         String welcomeMessage = guiJoko.getWelcomeMessage();
         assert welcomeMessage != null : "Welcome message must not be null";
 
-        dialogContainer.getChildren().add(
-                DialogBox.getJokoDialog(guiJoko.getWelcomeMessage(), dukeImage)
-        );
+        addMessages(new DialogMessage(welcomeMessage, false));
     }
 
     /**
      * Handles user input from the GUI.
      * <p>
-     * This method creates two dialog boxes:
-     * <ul>
-     *   <li>One displaying the user's input</li>
-     *   <li>One displaying Joko's response</li>
-     * </ul>
-     * After adding the dialog boxes to the container, the user input field is cleared.
+     * The user's input is added to the conversation and the input field is cleared
+     * straight away. The command itself is queued on the background command thread,
+     * and Joko's response is added once it is ready. If the queue does not drain
+     * within {@link #BUSY_DELAY}, a busy indicator is shown until it does.
      * </p>
      */
     @FXML
     private void handleUserInput() {
         String input = userInput.getText();
         assert input != null : "User input should never be null";
+        if (input.trim().isEmpty()) {
+            return;
+        }
 
-        String response = guiJoko.getResponse(input);
-        assert response != null : "Response from GuiJoko should never be null";
-
-        dialogContainer.getChildren().addAll(
-                DialogBox.getUserDialog(input, userImage),
-                DialogBox.getJokoDialog(response, dukeImage)
-        );
+        addMessages(new DialogMessage(input, true));
         userInput.clear();
+
+        GuiJoko joko = guiJoko;
+        pendingCommands++;
+        busyDelay.playFromStart();
+        commandExecutor.execute(() -> {
+            String response;
+            try {
+                response = joko.getResponse(input);
+            } catch (RuntimeException e) {
+                response = "Error: " + e.getMessage();
+            }
+            assert response != null : "Response from GuiJoko should never be null";
+
+            String finalResponse = response;
+            Platform.runLater(() -> showResponse(finalResponse));
+        });
+    }
+
+    /**
+     * Stops accepting commands and waits briefly for queued ones to finish.
+     */
+    public void shutdown() {
+        commandExecutor.shutdown();
+        try {
+            commandExecutor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void showResponse(String response) {
+        pendingCommands--;
+        if (pendingCommands == 0) {
+            busyDelay.stop();
+            busyIndicator.setVisible(false);
+        }
+        addMessages(new DialogMessage(response, false));
+    }
+
+    /**
+     * Appends messages to the conversation, drops the oldest ones beyond {@link #MAX_MESSAGES},
+     * and scrolls to the newest message.
+     *
+     * @param newMessages the messages to append
+     */
+    private void addMessages(DialogMessage... newMessages) {
+        messages.addAll(newMessages);
+        int excess = messages.size() - MAX_MESSAGES;
+        if (excess > 0) {
+            messages.remove(0, excess);
+        }
+        dialogList.scrollTo(messages.size() - 1);
     }
 }
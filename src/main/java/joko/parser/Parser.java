@@ -1,17 +1,45 @@
 package joko.parser;
 
+import java.text.ParsePosition;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.util.Arrays;
+
+import joko.task.StringPool;
 
 /**
  * Parses user input into commands for the Joko task manager application.
  * <p>
  * Provides methods to detect command types, parse task-related commands,
- * and handle index-based commands such as mark, unmark, and delete.
+ * and handle index-based commands such as mark, unmark, and delete, including
+ * their bulk forms that select many tasks at once.
+ * </p>
+ * <p>
+ * Parsing works on character positions within the input rather than splitting it,
+ * so the only strings created are the fields that end up in the {@link Command}.
  * </p>
  */
 public class Parser {
+    /** The number of tasks shown per page by {@code list --page <n>}. */
+    public static final int PAGE_SIZE = 50;
+
+    /** The format of date-times typed by the user, e.g. {@code 19/10/2026 1800}. */
+    public static final DateTimeFormatter INPUT_FORMAT = DateTimeFormatter.ofPattern("d/M/yyyy HHmm");
+
+    /** The format of dates typed by the user, e.g. {@code 19/10/2026}. */
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("d/M/yyyy");
+
+    /** The command keywords, returned as-is by {@link #getCommandType(String)}. */
+    private static final String[] COMMAND_TYPES = {
+        "bye", "list", "mark", "unmark", "todo", "deadline", "event", "delete", "find", "due",
+        "on", "free", "conflicts"
+    };
 
     /**
      * Represents a parsed command from user input.
@@ -24,7 +52,7 @@ public class Parser {
         /** The type of the command, e.g., "todo", "deadline", "event", "mark". */
         public final String type;
 
-        /** The task description (for todo, deadline, event). */
+        /** The task description (for todo, deadline, event), or the keyword of {@code --find}. */
         public final String desc;
 
         /** The deadline for a Deadline task (null for other types). */
@@ -39,6 +67,26 @@ public class Parser {
         /** The index of the task for index-based commands (mark, unmark, delete). */
         public final int index;
 
+        /** The first task position (0-based, inclusive) of a range, or -1 if there is no range. */
+        public final int rangeStart;
+
+        /** The last task position (0-based, exclusive) of a range, or -1 if there is no range. */
+        public final int rangeEnd;
+
+        /**
+         * The task positions of a bulk command such as {@code delete 3,7-9}, as {@code [start, end)}
+         * pairs (0-based, ascending, non-overlapping), or null. See {@link #positions(int)}.
+         */
+        public final int[] ranges;
+
+        /** Whether a bulk command selects every completed task ({@code --done}). */
+        public final boolean isDoneOnly;
+
+        /** The lower time bound of a time query, or the start of a timed event, or null. */
+        public final LocalDateTime start;
+
+        /** The upper time bound of a time query, or the end of a timed event, or null. */
+        public final LocalDateTime end;
 
         /**
          * Constructs a simple command (like "list" or "bye") with no arguments.
@@ -72,13 +120,110 @@ public class Parser {
             this(type, null, null, null, null, index);
         }
 
+        /**
+         * Constructs a ranged command such as {@code list 201-250}.
+         *
+         * @param type       the command type
+         * @param rangeStart the first position in the range (0-based, inclusive)
+         * @param rangeEnd   the last position in the range (0-based, exclusive)
+         */
+        public Command(String type, int rangeStart, int rangeEnd) {
+            this(type, null, null, null, null, -1, rangeStart, rangeEnd, null, false, null, null);
+        }
+
+        /**
+         * Constructs a bulk command on the given task positions, such as {@code delete 3,7-9}.
+         *
+         * @param type   the command type
+         * @param ranges the task positions as {@code [start, end)} pairs (0-based, ascending,
+         *               non-overlapping)
+         */
+        public Command(String type, int[] ranges) {
+            this(type, null, null, null, null, -1, -1, -1, ranges, false, null, null);
+        }
+
+        /**
+         * Constructs a bulk command on every completed task, such as {@code delete --done}.
+         *
+         * @param type       the command type
+         * @param isDoneOnly whether to select the completed tasks
+         */
+        public Command(String type, boolean isDoneOnly) {
+            this(type, null, null, null, null, -1, -1, -1, null, isDoneOnly, null, null);
+        }
+
+        /**
+         * Constructs a time query such as {@code due before 20/10/2026 1800}.
+         *
+         * @param type  the command type
+         * @param desc  the kind of query, e.g. "before", "after" or "between"
+         * @param start the lower time bound, or null
+         * @param end   the upper time bound, or null
+         */
+        public Command(String type, String desc, LocalDateTime start, LocalDateTime end) {
+            this(type, desc, null, null, null, -1, -1, -1, null, false, start, end);
+        }
+
         private Command(String type, String desc, LocalDateTime by, String from, String to, int index) {
+            this(type, desc, by, from, to, index, -1, -1, null, false, null, null);
+        }
+
+        private Command(String type, String desc, LocalDateTime by, String from, String to, int index,
+                int rangeStart, int rangeEnd, int[] ranges, boolean isDoneOnly, LocalDateTime start,
+                LocalDateTime end) {
             this.type = type;
             this.desc = desc;
             this.by = by;
             this.from = from;
             this.to = to;
             this.index = index;
+            this.rangeStart = rangeStart;
+            this.rangeEnd = rangeEnd;
+            this.ranges = ranges;
+            this.isDoneOnly = isDoneOnly;
+            this.start = start;
+            this.end = end;
+        }
+
+        /**
+         * Returns whether this mark, unmark or delete command selects several tasks
+         * rather than a single index.
+         *
+         * @return {@code true} for a range, list, {@code --done} or {@code --find} selection
+         */
+        public boolean isBulk() {
+            return index < 0 && (rangeStart >= 0 || ranges != null || isDoneOnly || desc != null);
+        }
+
+        /**
+         * Returns every position selected by {@link #ranges}, after checking that all of them
+         * exist in a list of {@code size} tasks.
+         * <p>
+         * The ranges are only expanded after the check, so a mistyped number such as
+         * {@code delete 1,1-2000000000} fails cleanly instead of allocating billions of positions.
+         * </p>
+         *
+         * @param size the number of tasks in the list
+         * @return the 0-based positions, ascending and distinct
+         * @throws IndexOutOfBoundsException if a position is not in the list
+         */
+        public int[] positions(int size) {
+            assert ranges != null : "Only comma-separated selections have ranges";
+            int count = 0;
+            for (int i = 0; i < ranges.length; i += 2) {
+                if (ranges[i + 1] > size) {
+                    throw new IndexOutOfBoundsException("Invalid task range.");
+                }
+                count += ranges[i + 1] - ranges[i];
+            }
+            int[] positions = new int[count];
+            int next = 0;
+            for (int i = 0; i < ranges.length; i += 2) {
+                for (int position = ranges[i]; position < ranges[i + 1]; position++) {
+                    positions[next++] = position;
+                }
+            }
+            return positions;
         }
     }
 
@@ -90,28 +235,94 @@ public class Parser {
      */
     public static String getCommandType(String input) {
         assert input != null && !input.isEmpty() : "Input must not be null or empty";
-        return input.split(" ")[0].toLowerCase();
+        int end = wordEnd(input, 0);
+        for (String type : COMMAND_TYPES) {
+            if (type.length() == end && input.regionMatches(true, 0, type, 0, end)) {
+                return type;
+            }
+        }
+        return input.substring(0, end).toLowerCase();
     }
 
     /**
      * Parses index-based commands like "mark 2", "unmark 1", "delete 3".
+     * <p>
+     * Besides a single task number, the bulk forms {@code <from>-<to>} (1-based, inclusive),
+     * {@code <n>,<n>,...} (each entry a number or a range), {@code --done} and
+     * {@code --find <keyword>} are accepted; see {@link Command#isBulk()}.
+     * </p>
      *
      * @param input the raw user input
      * @param type  the command type
-     * @return a {@link Command} with the index parsed
-     * @throws NumberFormatException if the index is missing or invalid
+     * @return a {@link Command} with the index or selection parsed
+     * @throws NumberFormatException if a task number is missing or invalid
+     * @throws IllegalArgumentException if a range or option is invalid
      */
-    public static Command parseIndexCommand(String input, String type) throws NumberFormatException {
+    public static Command parseIndexCommand(String input, String type) throws IllegalArgumentException {
         assert input != null && !input.isEmpty() : "Input must not be null/empty for index command";
-        String[] parts = input.split(" ", 2);
-        if (parts.length < 2) {
+        int argStart = wordEnd(input, 0);
+        if (argStart == input.length()) {
             throw new NumberFormatException("Missing task number");
         }
-        int index = Integer.parseInt(parts[1].trim()) - 1;
-        assert index >= 0 : "Parsed index must be zero or positive";
+        int start = skipWhitespace(input, argStart + 1);
+        int end = trimEnd(input, start, input.length());
+        if (input.startsWith("--", start)) {
+            return parseBulkOption(input.substring(start, end), type);
+        }
+        if (input.indexOf(',', start) >= 0) {
+            return new Command(type, parsePositions(input, start, end));
+        }
+        int dash = input.indexOf('-', start);
+        if (dash >= 0) {
+            int[] range = parseRange(input, start, dash, end);
+            return new Command(type, range[0], range[1]);
+        }
+
+        int index = Integer.parseInt(input, start, end, 10) - 1;
+        if (index < 0) {
+            throw new NumberFormatException("Task number must be positive");
+        }
         return new Command(type, index);
     }
 
+    /**
+     * Parses a "list" command, optionally limited to a range or page of tasks.
+     * <p>
+     * Accepts {@code list}, {@code list <from>-<to>} with 1-based inclusive positions,
+     * and {@code list --page <n>} for the n-th page of {@link #PAGE_SIZE} tasks.
+     * </p>
+     *
+     * @param input the raw user input starting with "list"
+     * @return a {@link Command} with the range, or without one for a plain "list"
+     * @throws IllegalArgumentException if the range or page is invalid
+     */
+    public static Command parseList(String input) throws IllegalArgumentException {
+        String arg = trimmed(input, wordEnd(input, 0), input.length());
+        if (arg.isEmpty()) {
+            return new Command("list");
+        }
+
+        if (arg.startsWith("--page")) {
+            int page = Integer.parseInt(trimmed(arg, 6, arg.length()));
+            if (page < 1 || page > Integer.MAX_VALUE / PAGE_SIZE) {
+                throw new IllegalArgumentException("Page must be a positive number");
+            }
+            int start = (page - 1) * PAGE_SIZE;
+            return new Command("list", start, start + PAGE_SIZE);
+        }
+
+        int dash = arg.indexOf('-');
+        if (dash < 0) {
+            throw new IllegalArgumentException("Use list <from>-<to> or list --page <n>");
+        }
+        int from = Integer.parseInt(trimmed(arg, 0, dash));
+        int to = Integer.parseInt(trimmed(arg, dash + 1, arg.length()));
+        if (from < 1 || to < from) {
+            throw new IllegalArgumentException("Range must be <from>-<to> with 1 <= from <= to");
+        }
+        return new Command("list", from - 1, to);
+    }
+
     /**
      * Parses a "todo" command.
      *
@@ -120,7 +331,7 @@ public class Parser {
      * @throws IllegalArgumentException if the description is empty
      */
     public static Command parseTodo(String input) throws IllegalArgumentException {
-        String desc = input.substring(5).trim();
+        String desc = pooled(input, 5, input.length());
         if (desc.isEmpty()) {
             throw new IllegalArgumentException("Todo description cannot be empty");
         }
@@ -136,14 +347,16 @@ public class Parser {
      */
     public static Command parseDeadline(String input) throws IllegalArgumentException {
         try {
-            String[] parts = input.substring(9).split(" /by", 2);
-            if (parts.length < 2 || parts[0].trim().isEmpty() || parts[1].trim().isEmpty()) {
+            int descStart = Math.min(9, input.length());
+            int byMarker = input.indexOf(" /by", descStart);
+            String desc = byMarker < 0 ? "" : pooled(input, descStart, byMarker);
+            String byText = byMarker < 0 ? "" : trimmed(input, byMarker + 4, input.length());
+            if (desc.isEmpty() || byText.isEmpty()) {
                 throw new IllegalArgumentException("Deadline must have a description and /by time");
             }
 
-            DateTimeFormatter inputFormat = DateTimeFormatter.ofPattern("d/M/yyyy HHmm");
-            LocalDateTime by = LocalDateTime.parse(parts[1].trim(), inputFormat);
-            return new Command("deadline", parts[0].trim(), by, null, null);
+            LocalDateTime by = LocalDateTime.parse(byText, INPUT_FORMAT);
+            return new Command("deadline", desc, by, null, null);
         } catch (DateTimeParseException e) {
             throw new IllegalArgumentException("Invalid date/time format. Use dd/MM/yyyy HHmm");
         }
@@ -151,24 +364,79 @@ public class Parser {
 
     /**
      * Parses an "event" command.
+     * <p>
+     * If both times are in {@link #INPUT_FORMAT}, they are also parsed into the command's
+     * {@code start} and {@code end}; any other text is kept only as {@code from} and {@code to}.
+     * </p>
      *
      * @param input the raw user input starting with "event "
      * @return a {@link Command} representing the event task
-     * @throws IllegalArgumentException if the format is invalid
+     * @throws IllegalArgumentException if the format is invalid, or a timed event ends before it starts
      */
     public static Command parseEvent(String input) throws IllegalArgumentException {
+        Command cmd = parseEventText(input);
+        LocalDateTime start = parseTimeOrNull(cmd.from);
+        LocalDateTime end = start == null ? null : parseTimeOrNull(cmd.to);
+        if (end == null) {
+            return cmd;
+        } else if (end.isBefore(start)) {
+            throw new IllegalArgumentException("Event must not end before it starts");
+        }
+        return new Command("event", cmd.desc, null, cmd.from, cmd.to, -1, -1, -1, null, false, start, end);
+    }
+
+    /**
+     * Parses a date-time in {@link #INPUT_FORMAT}, or returns {@code null} if the text is not one.
+     * <p>
+     * Free-form event times such as "Mon 2pm" are common, so this checks the text against the
+     * pattern and the field ranges instead of relying on a {@link DateTimeParseException}. Like
+     * {@code LocalDateTime.parse}, a day past the end of the month is moved to its last day.
+     * </p>
+     *
+     * @param text the text to parse, possibly {@code null}
+     * @return the date-time, or {@code null} if the text is not in {@link #INPUT_FORMAT}
+     */
+    public static LocalDateTime parseTimeOrNull(String text) {
+        if (text == null || text.isEmpty() || !Character.isDigit(text.charAt(0))) {
+            return null;
+        }
+        ParsePosition position = new ParsePosition(0);
+        TemporalAccessor fields = INPUT_FORMAT.parseUnresolved(text, position);
+        if (fields == null || position.getErrorIndex() >= 0 || position.getIndex() != text.length()) {
+            return null;
+        }
+        long year = fields.getLong(ChronoField.YEAR_OF_ERA);
+        long month = fields.getLong(ChronoField.MONTH_OF_YEAR);
+        long day = fields.getLong(ChronoField.DAY_OF_MONTH);
+        long hour = fields.getLong(ChronoField.HOUR_OF_DAY);
+        long minute = fields.getLong(ChronoField.MINUTE_OF_HOUR);
+        if (!ChronoField.YEAR.range().isValidValue(year)
+                || !ChronoField.MONTH_OF_YEAR.range().isValidValue(month)
+                || !ChronoField.DAY_OF_MONTH.range().isValidValue(day)
+                || !ChronoField.HOUR_OF_DAY.range().isValidValue(hour)
+                || !ChronoField.MINUTE_OF_HOUR.range().isValidValue(minute)) {
+            return null;
+        }
+        YearMonth yearMonth = YearMonth.of((int) year, (int) month);
+        return LocalDateTime.of(yearMonth.atDay(Math.min((int) day, yearMonth.lengthOfMonth())),
+                LocalTime.of((int) hour, (int) minute));
+    }
+
+    private static Command parseEventText(String input) {
         try {
-            String[] part1 = input.substring(6).split(" /from ", 2);
-            if (part1.length < 2) {
+            int descStart = Math.min(6, input.length());
+            int fromMarker = input.indexOf(" /from ", descStart);
+            if (fromMarker < 0) {
                 throw new IllegalArgumentException("Event must have /from time");
             }
 
-            String desc = part1[0].trim();
-            String[] part2 = part1[1].split(" /to ", 2);
-            if (part2.length < 2) {
+            int fromStart = fromMarker + 7;
+            int toMarker = input.indexOf(" /to ", fromStart);
+            if (toMarker < 0) {
                 throw new IllegalArgumentException("Event must have /to time");
             }
-            return new Command("event", desc, null, part2[0].trim(), part2[1].trim());
+            return new Command("event", pooled(input, descStart, fromMarker), null,
+                    pooled(input, fromStart, toMarker), pooled(input, toMarker + 5, input.length()));
         } catch (Exception e) {
             throw new IllegalArgumentException(
                     "Invalid event format. Use: event <desc> /from <start> /to <end>");
@@ -184,13 +452,82 @@ public class Parser {
      * @throws IllegalArgumentException if no keyword is provided
      */
     public static Command parseFind(String input) {
-        String keyword = input.substring(5).trim(); // after "find "
+        String keyword = trimmed(input, 5, input.length()); // after "find "
         if (keyword.isEmpty()) {
             throw new IllegalArgumentException("Keyword cannot be empty");
         }
         return new Command("find", keyword, null, null, null);
     }
 
+    /**
+     * Parses a "due" command: {@code due before <time>}, {@code due after <time>} or
+     * {@code due between <time> and <time>}, with times in {@link #INPUT_FORMAT}.
+     *
+     * @param input the raw user input starting with "due"
+     * @return a {@link Command} whose {@code desc} is the kind of query and whose
+     *         {@code start} and {@code end} are its bounds
+     * @throws IllegalArgumentException if the query or a time is invalid
+     */
+    public static Command parseDue(String input) throws IllegalArgumentException {
+        int kindStart = skipWhitespace(input, wordEnd(input, 0));
+        int kindEnd = wordEnd(input, kindStart);
+        String kind = input.substring(kindStart, kindEnd).toLowerCase();
+        try {
+            switch (kind) {
+            case "before":
+                return new Command("due", kind, null, parseTime(input, kindEnd, input.length()));
+            case "after":
+                return new Command("due", kind, parseTime(input, kindEnd, input.length()), null);
+            case "between":
+                LocalDateTime[] range = parseBetween(input, kindEnd);
+                return new Command("due", kind, range[0], range[1]);
+            default:
+                break;
+            }
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid date/time format. Use dd/MM/yyyy HHmm");
+        }
+        throw new IllegalArgumentException("Use: due before <time> | due after <time> | due between <time> and <time>");
+    }
+
+    /**
+     * Parses an "on" command: {@code on <date>}, with the date as {@code d/M/yyyy}.
+     *
+     * @param input the raw user input starting with "on"
+     * @return a {@link Command} whose {@code start} and {@code end} span the whole day
+     * @throws IllegalArgumentException if the date is missing or invalid
+     */
+    public static Command parseOn(String input) throws IllegalArgumentException {
+        LocalDateTime dayStart = parseDay(input, wordEnd(input, 0), "on <d/M/yyyy>");
+        return new Command("on", null, dayStart, dayStart.plusDays(1));
+    }
+
+    /**
+     * Parses a "free" command: {@code free <date>} for a whole day, or
+     * {@code free between <time> and <time>} with times in {@link #INPUT_FORMAT}.
+     *
+     * @param input the raw user input starting with "free"
+     * @return a {@link Command} whose {@code start} and {@code end} bound the range to search
+     * @throws IllegalArgumentException if the range is invalid or empty
+     */
+    public static Command parseFree(String input) throws IllegalArgumentException {
+        int argStart = skipWhitespace(input, wordEnd(input, 0));
+        if (!input.regionMatches(true, argStart, "between ", 0, 8)) {
+            LocalDateTime dayStart = parseDay(input, argStart, "free <d/M/yyyy> | free between <time> and <time>");
+            return new Command("free", null, dayStart, dayStart.plusDays(1));
+        }
+        LocalDateTime[] range;
+        try {
+            range = parseBetween(input, argStart + 7);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid date/time format. Use dd/MM/yyyy HHmm");
+        }
+        if (!range[0].isBefore(range[1])) {
+            throw new IllegalArgumentException("Start of range must be before its end");
+        }
+        return new Command("free", null, range[0], range[1]);
+    }
+
     /**
      * Checks if the input is the exit command "bye".
      *
@@ -210,4 +547,168 @@ public class Parser {
     public static boolean isList(String input) {
         return input.equalsIgnoreCase("list");
     }
+
+    private static Command parseBulkOption(String option, String type) {
+        if (option.equals("--done")) {
+            return new Command(type, true);
+        }
+        if (option.startsWith("--find ")) {
+            String keyword = trimmed(option, 7, option.length());
+            if (!keyword.isEmpty()) {
+                return new Command(type, keyword, null, null, null);
+            }
+        }
+        throw new IllegalArgumentException("Use --done or --find <keyword>");
+    }
+
+    /**
+     * Parses a comma-separated list of task numbers and ranges into sorted, merged
+     * {@code [start, end)} pairs, without expanding the ranges.
+     */
+    private static int[] parsePositions(String input, int start, int end) {
+        int[] ranges = new int[8];
+        int count = 0;
+        int itemStart = start;
+        while (itemStart <= end) {
+            int comma = input.indexOf(',', itemStart);
+            int itemEnd = comma < 0 || comma > end ? end : comma;
+            int from = skipWhitespace(input, itemStart);
+            int to = trimEnd(input, from, itemEnd);
+            int dash = input.indexOf('-', from);
+            int[] range;
+            if (dash >= 0 && dash < to) {
+                range = parseRange(input, from, dash, to);
+            } else {
+                int position = parsePosition(input, from, to);
+                range = new int[] {position, position + 1};
+            }
+            if (count == ranges.length) {
+                ranges = Arrays.copyOf(ranges, count * 2);
+            }
+            ranges[count++] = range[0];
+            ranges[count++] = range[1];
+            itemStart = itemEnd + 1;
+        }
+
+        long[] sorted = new long[count / 2];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = (long) ranges[2 * i] << 32 | ranges[2 * i + 1];
+        }
+        Arrays.sort(sorted);
+        int merged = 0;
+        for (long range : sorted) {
+            int rangeStart = (int) (range >>> 32);
+            int rangeEnd = (int) range;
+            if (merged > 0 && rangeStart <= ranges[merged - 1]) {
+                ranges[merged - 1] = Math.max(ranges[merged - 1], rangeEnd);
+            } else {
+                ranges[merged++] = rangeStart;
+                ranges[merged++] = rangeEnd;
+            }
+        }
+        return Arrays.copyOf(ranges, merged);
+    }
+
+    /**
+     * Parses {@code <from>-<to>} (1-based, inclusive) into 0-based {start, end} (end exclusive).
+     */
+    private static int[] parseRange(String input, int start, int dash, int end) {
+        int from = parsePosition(input, start, trimEnd(input, start, dash)) + 1;
+        int to = parsePosition(input, skipWhitespace(input, dash + 1), end) + 1;
+        if (to < from) {
+            throw new IllegalArgumentException("Range must be <from>-<to> with 1 <= from <= to");
+        }
+        return new int[] {from - 1, to};
+    }
+
+    /**
+     * Parses a 1-based task number in [start, end) into a 0-based position.
+     */
+    private static int parsePosition(String input, int start, int end) {
+        int position = Integer.parseInt(input, start, end, 10) - 1;
+        if (position < 0) {
+            throw new NumberFormatException("Task number must be positive");
+        }
+        return position;
+    }
+
+    /**
+     * Parses {@code <time> and <time>} starting at {@code start} into {start, end}.
+     */
+    private static LocalDateTime[] parseBetween(String input, int start) {
+        int and = input.indexOf(" and ", start);
+        if (and < 0) {
+            throw new IllegalArgumentException("Use: between <time> and <time>");
+        }
+        LocalDateTime from = parseTime(input, start, and);
+        LocalDateTime to = parseTime(input, and + 5, input.length());
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("Start of range must not be after its end");
+        }
+        return new LocalDateTime[] {from, to};
+    }
+
+    private static LocalDateTime parseDay(String input, int start, String usage) {
+        String text = trimmed(input, start, input.length());
+        if (text.isEmpty()) {
+            throw new IllegalArgumentException("Use: " + usage);
+        }
+        try {
+            return LocalDate.parse(text, DATE_FORMAT).atStartOfDay();
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid date format. Use d/M/yyyy");
+        }
+    }
+
+    private static LocalDateTime parseTime(String input, int start, int end) {
+        return LocalDateTime.parse(trimmed(input, start, end), INPUT_FORMAT);
+    }
+
+    /**
+     * Returns the position of the first space at or after {@code start}, or the input length.
+     */
+    private static int wordEnd(CharSequence input, int start) {
+        int i = start;
+        while (i < input.length() && input.charAt(i) != ' ') {
+            i++;
+        }
+        return i;
+    }
+
+    private static int skipWhitespace(CharSequence input, int start) {
+        int i = start;
+        while (i < input.length() && input.charAt(i) <= ' ') {
+            i++;
+        }
+        return i;
+    }
+
+    private static int trimEnd(CharSequence input, int start, int end) {
+        int i = end;
+        while (i > start && input.charAt(i - 1) <= ' ') {
+            i--;
+        }
+        return i;
+    }
+
+    /**
+     * Returns {@code input[start, end)} with surrounding whitespace removed, like
+     * {@code input.substring(start, end).trim()} but creating only the final string.
+     */
+    private static String trimmed(String input, int start, int end) {
+        if (start >= end) {
+            return "";
+        }
+        int from = skipWhitespace(input, start);
+        int to = trimEnd(input, from, end);
+        return from >= to ? "" : input.substring(from, to);
+    }
+
+    /**
+     * Returns {@link #trimmed(String, int, int)} through the shared {@link StringPool}, for text
+     * that is kept in a task, so that repeated descriptions and times share one instance.
+     */
+    private static String pooled(String input, int start, int end) {
+        return StringPool.shared().intern(trimmed(input, start, end));
+    }
 }
@@ -0,0 +1,223 @@
+package joko.server;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import joko.task.Deadline;
+import joko.task.Event;
+import joko.task.Task;
+
+/**
+ * Writes tasks as JSON and reads the flat JSON objects that clients send.
+ * <p>
+ * Only what the server needs is supported: request bodies are single objects whose values are
+ * strings, numbers, booleans or {@code null}, all returned as text.
+ * </p>
+ */
+final class Json {
+    private Json() {
+    }
+
+    /**
+     * Returns a task as a JSON object.
+     * <p>
+     * Every task has {@code id}, {@code type} ({@code todo}, {@code deadline} or {@code event}),
+     * {@code done} and {@code desc}. Deadlines add {@code by}, and events add {@code from} and
+     * {@code to}, plus {@code start} and {@code end} if they are timed. Times are ISO-8601.
+     * </p>
+     *
+     * @param task the task to write
+     * @return the JSON object
+     */
+    static String task(Task task) {
+        StringBuilder json = new StringBuilder(96);
+        appendTask(json, task);
+        return json.toString();
+    }
+
+    /**
+     * Returns tasks as a JSON object with a single {@code tasks} array.
+     *
+     * @param tasks the tasks to write
+     * @return the JSON object
+     */
+    static String tasks(List<Task> tasks) {
+        StringBuilder json = new StringBuilder(16 + tasks.size() * 96).append("{\"tasks\":[");
+        boolean isFirst = true;
+        for (Task t : tasks) {
+            if (!isFirst) {
+                json.append(',');
+            }
+            appendTask(json, t);
+            isFirst = false;
+        }
+        return json.append("]}").toString();
+    }
+
+    /**
+     * Returns an error message as a JSON object with a single {@code error} field.
+     *
+     * @param message the error message
+     * @return the JSON object
+     */
+    static String error(String message) {
+        StringBuilder json = new StringBuilder("{\"error\":");
+        appendString(json, message);
+        return json.append('}').toString();
+    }
+
+    /**
+     * Parses a flat JSON object.
+     *
+     * @param json the text to parse
+     * @return the fields in order; strings are unescaped, other values are kept as written
+     * @throws IllegalArgumentException if the text is not a flat JSON object
+     */
+    static Map<String, String> parseObject(String json) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        int[] position = {skipWhitespace(json, 0)};
+        expect(json, position, '{');
+        if (peek(json, position) == '}') {
+            position[0]++;
+        } else {
+            char separator = ',';
+            while (separator == ',') {
+                String key = readString(json, position);
+                expect(json, position, ':');
+                fields.put(key, peek(json, position) == '"' ? readString(json, position) : readLiteral(json, position));
+                separator = peek(json, position);
+                position[0]++;
+            }
+            if (separator != '}') {
+                throw new IllegalArgumentException("Expected , or } in JSON object");
+            }
+        }
+        if (skipWhitespace(json, position[0]) != json.length()) {
+            throw new IllegalArgumentException("Unexpected text after JSON object");
+        }
+        return fields;
+    }
+
+    private static void appendTask(StringBuilder json, Task task) {
+        json.append("{\"id\":").append(task.getId()).append(",\"type\":\"");
+        if (task instanceof Deadline) {
+            json.append("deadline");
+        } else if (task instanceof Event) {
+            json.append("event");
+        } else {
+            json.append("todo");
+        }
+        json.append("\",\"done\":").append(task.isDone()).append(",\"desc\":");
+        appendString(json, task.getDesc());
+
+        if (task instanceof Deadline) {
+            json.append(",\"by\":\"").append(((Deadline) task).getBy()).append('"');
+        } else if (task instanceof Event) {
+            Event event = (Event) task;
+            json.append(",\"from\":");
+            appendString(json, event.getFrom());
+            json.append(",\"to\":");
+            appendString(json, event.getTo());
+            if (event.isTimed()) {
+                json.append(",\"start\":\"").append(event.getStart())
+                        .append("\",\"end\":\"").append(event.getEnd()).append('"');
+            }
+        }
+        json.append('}');
+    }
+
+    private static void appendString(StringBuilder json, String s) {
+        json.append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+            case '"' -> json.append("\\\"");
+            case '\\' -> json.append("\\\\");
+            case '\n' -> json.append("\\n");
+            case '\r' -> json.append("\\r");
+            case '\t' -> json.append("\\t");
+            default -> {
+                if (c < 0x20) {
+                    json.append(String.format("\\u%04x", (int) c));
+                } else {
+                    json.append(c);
+                }
+            }
+            }
+        }
+        json.append('"');
+    }
+
+    private static String readString(String json, int[] position) {
+        expect(json, position, '"');
+        StringBuilder s = new StringBuilder();
+        int i = position[0];
+        while (i < json.length() && json.charAt(i) != '"') {
+            char c = json.charAt(i++);
+            if (c != '\\') {
+                s.append(c);
+                continue;
+            }
+            if (i >= json.length()) {
+                break;
+            }
+            char escaped = json.charAt(i++);
+            switch (escaped) {
+            case 'n' -> s.append('\n');
+            case 'r' -> s.append('\r');
+            case 't' -> s.append('\t');
+            case 'b' -> s.append('\b');
+            case 'f' -> s.append('\f');
+            case 'u' -> {
+                if (i + 4 > json.length()) {
+                    throw new IllegalArgumentException("Invalid \\u escape in JSON string");
+                }
+                s.append((char) Integer.parseInt(json, i, i + 4, 16));
+                i += 4;
+            }
+            default -> s.append(escaped);
+            }
+        }
+        if (i >= json.length()) {
+            throw new IllegalArgumentException("Unterminated JSON string");
+        }
+        position[0] = i + 1;
+        return s.toString();
+    }
+
+    private static String readLiteral(String json, int[] position) {
+        int start = position[0];
+        int end = start;
+        while (end < json.length() && ",}".indexOf(json.charAt(end)) < 0 && json.charAt(end) > ' ') {
+            end++;
+        }
+        if (end == start) {
+            throw new IllegalArgumentException("Missing JSON value");
+        }
+        position[0] = end;
+        return json.substring(start, end);
+    }
+
+    private static void expect(String json, int[] position, char c) {
+        if (peek(json, position) != c) {
+            throw new IllegalArgumentException("Expected " + c + " in JSON");
+        }
+        position[0]++;
+    }
+
+    /**
+     * Skips whitespace and returns the next character, or 0 at the end of the text.
+     */
+    private static char peek(String json, int[] position) {
+        position[0] = skipWhitespace(json, position[0]);
+        return position[0] < json.length() ? json.charAt(position[0]) : 0;
+    }
+
+    private static int skipWhitespace(String json, int i) {
+        while (i < json.length() && json.charAt(i) <= ' ') {
+            i++;
+        }
+        return i;
+    }
+}
@@ -0,0 +1,181 @@
+package joko.server;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Drives a running {@link TaskServer} with concurrent clients and reports throughput and latency.
+ * <p>
+ * Usage: {@code java -cp joko.jar joko.server.LoadTestClient [port] [clients] [requests per client]}.
+ * Each client thread sends requests back to back: 30% add a todo, 40% find by keyword, 15% mark
+ * or unmark one of the client's own tasks, 10% delete one, and 5% list every task. At the end
+ * the client prints requests per second and p50, p90 and p99 latency for each kind of request.
+ * </p>
+ */
+public class LoadTestClient {
+    /** Words that todo descriptions and find keywords are built from. */
+    private static final String[] WORDS = {
+        "read", "book", "report", "submit", "meeting", "project", "lunch", "call", "review", "draft"
+    };
+
+    /** Finds the id in an added task's JSON. */
+    private static final Pattern ID = Pattern.compile("\"id\":(\\d+)");
+
+    /** The kinds of request sent, in the order they are reported. */
+    private static final String[] KINDS = {"add", "find", "mark", "delete", "list"};
+
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private final String baseUri;
+
+    /** Added to every description, so that repeated runs against one server do not add duplicates. */
+    private final String runTag = Long.toString(System.currentTimeMillis(), 36);
+
+    /** The latencies of each kind of request, in nanoseconds, per client. */
+    private final long[][][] latencies;
+
+    /** The number of latencies recorded for each kind of request, per client. */
+    private final int[][] counts;
+
+    /** The number of requests that failed or got an unexpected status. */
+    private final AtomicInteger errors = new AtomicInteger();
+
+    private LoadTestClient(int port, int clients, int requests) {
+        this.baseUri = "http://localhost:" + port + "/tasks";
+        this.latencies = new long[clients][KINDS.length][requests];
+        this.counts = new int[clients][KINDS.length];
+    }
+
+    /**
+     * Runs the load test against a server on localhost.
+     *
+     * @param args the port (default {@value TaskServer#DEFAULT_PORT}), number of client threads
+     *             (default 8) and number of requests per client (default 10000)
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : TaskServer.DEFAULT_PORT;
+        int clients = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+        int requests = args.length > 2 ? Integer.parseInt(args[2]) : 10000;
+        new LoadTestClient(port, clients, requests).run(clients, requests);
+    }
+
+    private void run(int clients, int requests) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int c = 0; c < clients; c++) {
+            int clientNumber = c;
+            threads.add(new Thread(() -> runClient(clientNumber, requests, start), "joko-load-" + c));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        long startTime = System.nanoTime();
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long elapsed = System.nanoTime() - startTime;
+        report(clients * requests, elapsed);
+    }
+
+    private void runClient(int clientNumber, int requests, CountDownLatch start) {
+        Random random = new Random(clientNumber);
+        List<Long> ids = new ArrayList<>();
+        try {
+            start.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        for (int i = 0; i < requests; i++) {
+            int roll = random.nextInt(100);
+            int kind;
+            HttpRequest request;
+            if (roll < 30 || ids.isEmpty()) {
+                kind = 0;
+                String desc = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)]
+                        + " run " + runTag + " client " + clientNumber + " #" + i;
+                request = HttpRequest.newBuilder(URI.create(baseUri))
+                        .POST(HttpRequest.BodyPublishers.ofString("{\"type\":\"todo\",\"desc\":\"" + desc + "\"}"))
+                        .build();
+            } else if (roll < 70) {
+                kind = 1;
+                request = HttpRequest.newBuilder(URI.create(baseUri + "?find=" + WORDS[random.nextInt(WORDS.length)]))
+                        .build();
+            } else if (roll < 85) {
+                kind = 2;
+                long id = ids.get(random.nextInt(ids.size()));
+                String action = random.nextBoolean() ? "/mark" : "/unmark";
+                request = HttpRequest.newBuilder(URI.create(baseUri + "/" + id + action))
+                        .POST(HttpRequest.BodyPublishers.noBody())
+                        .build();
+            } else if (roll < 95) {
+                kind = 3;
+                long id = ids.remove(random.nextInt(ids.size()));
+                request = HttpRequest.newBuilder(URI.create(baseUri + "/" + id)).DELETE().build();
+            } else {
+                kind = 4;
+                request = HttpRequest.newBuilder(URI.create(baseUri)).build();
+            }
+
+            long requestStart = System.nanoTime();
+            try {
+                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                latencies[clientNumber][kind][counts[clientNumber][kind]++] = System.nanoTime() - requestStart;
+                if (response.statusCode() >= 300) {
+                    errors.incrementAndGet();
+                } else if (kind == 0) {
+                    Matcher matcher = ID.matcher(response.body());
+                    if (matcher.find()) {
+                        ids.add(Long.parseLong(matcher.group(1)));
+                    }
+                }
+            } catch (IOException e) {
+                errors.incrementAndGet();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void report(int total, long elapsed) {
+        System.out.printf("%d requests in %.1f s: %.0f requests/s, %d errors%n",
+                total, elapsed / 1e9, total / (elapsed / 1e9), errors.get());
+        for (int kind = 0; kind < KINDS.length; kind++) {
+            int count = 0;
+            for (int[] clientCounts : counts) {
+                count += clientCounts[kind];
+            }
+            long[] merged = new long[count];
+            int position = 0;
+            for (int c = 0; c < counts.length; c++) {
+                System.arraycopy(latencies[c][kind], 0, merged, position, counts[c][kind]);
+                position += counts[c][kind];
+            }
+            Arrays.sort(merged);
+            System.out.printf("  %-6s %7d  p50 %8.1f us  p90 %8.1f us  p99 %8.1f us%n", KINDS[kind], count,
+                    percentile(merged, 0.50) / 1e3, percentile(merged, 0.90) / 1e3, percentile(merged, 0.99) / 1e3);
+        }
+    }
+
+    /**
+     * Returns the nearest-rank percentile of sorted values, or 0 if there are none.
+     */
+    private static long percentile(long[] sorted, double fraction) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[Math.max((int) Math.ceil(fraction * sorted.length) - 1, 0)];
+    }
+}
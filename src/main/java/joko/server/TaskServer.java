@@ -0,0 +1,257 @@
+package joko.server;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import joko.parser.Parser;
+import joko.task.Deadline;
+import joko.task.Event;
+import joko.task.StringPool;
+import joko.task.Task;
+import joko.task.TaskList;
+import joko.task.ToDo;
+
+/**
+ * A local HTTP server that exposes a task list as JSON endpoints.
+ * <p>
+ * The server listens on the loopback address only. Tasks are addressed by their id, which does
+ * not change when other tasks are added or deleted:
+ * <ul>
+ *     <li>{@code GET /tasks} lists all tasks, and {@code GET /tasks?find=<keyword>} finds tasks</li>
+ *     <li>{@code POST /tasks} adds a task from a JSON body such as
+ *     {@code {"type": "deadline", "desc": "report", "by": "2/12/2026 1800"}}; events take
+ *     {@code from} and {@code to} instead of {@code by}</li>
+ *     <li>{@code GET /tasks/<id>} returns one task</li>
+ *     <li>{@code POST /tasks/<id>/mark} and {@code POST /tasks/<id>/unmark} mark a task</li>
+ *     <li>{@code DELETE /tasks/<id>} deletes a task</li>
+ * </ul>
+ * Errors are returned as {@code {"error": "..."}} with a 4xx status. Requests are handled by a
+ * fixed pool of threads, so the task list must be safe to share, such as a
+ * {@link joko.task.ConcurrentTaskList}.
+ * </p>
+ */
+public class TaskServer {
+    /** The port used when none is given. */
+    public static final int DEFAULT_PORT = 8080;
+
+    /** The list that requests act on. */
+    private final TaskList taskList;
+
+    /** The underlying JDK server. */
+    private final HttpServer server;
+
+    /** The threads that handle requests. */
+    private final ExecutorService executor;
+
+    /**
+     * Constructs a new {@code TaskServer}, bound but not yet started.
+     *
+     * @param taskList the list that requests act on, safe for concurrent use
+     * @param port     the port to listen on, or 0 for any free port
+     * @throws IOException if the port cannot be bound
+     */
+    public TaskServer(TaskList taskList, int port) throws IOException {
+        this.taskList = taskList;
+        // The JDK server sends headers and body in separate writes; without TCP_NODELAY the body
+        // waits for the client's delayed ACK, adding about 40 ms to every request. The setting is
+        // read once, when the first server in the JVM is created.
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 128);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 2, runnable -> {
+            Thread thread = new Thread(runnable, "joko-server-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.createContext("/tasks", this::handle);
+        server.setExecutor(executor);
+    }
+
+    /**
+     * Starts accepting requests in the background.
+     */
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Stops accepting requests and waits briefly for those in progress to finish.
+     */
+    public void stop() {
+        server.stop(1);
+        executor.shutdown();
+    }
+
+    /**
+     * Returns the port the server listens on.
+     *
+     * @return the bound port
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String[] path = exchange.getRequestURI().getPath().split("/");
+            String method = exchange.getRequestMethod();
+            if (path.length < 2 || !path[1].equals("tasks")) {
+                send(exchange, 404, Json.error("Not found"));
+            } else if (path.length == 2) {
+                handleCollection(exchange, method);
+            } else if (path.length == 3 || path.length == 4) {
+                handleTask(exchange, method, parseId(path[2]), path.length == 4 ? path[3] : null);
+            } else {
+                send(exchange, 404, Json.error("Not found"));
+            }
+        } catch (RuntimeException e) {
+            send(exchange, 400, Json.error(String.valueOf(e.getMessage())));
+        } finally {
+            exchange.close();
+            String error = taskList.takeStorageError();
+            if (error != null) {
+                System.out.println(error);
+            }
+        }
+    }
+
+    private void handleCollection(HttpExchange exchange, String method) throws IOException {
+        if (method.equals("GET")) {
+            String keyword = queryParameter(exchange, "find");
+            send(exchange, 200, Json.tasks(keyword == null ? taskList.getTasks() : taskList.findTasks(keyword)));
+        } else if (method.equals("POST")) {
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            Task added = taskList.addTaskIfAbsent(createTask(Json.parseObject(body)));
+            if (added == null) {
+                send(exchange, 409, Json.error("Duplicate task"));
+            } else {
+                send(exchange, 201, Json.task(added));
+            }
+        } else {
+            send(exchange, 405, Json.error("Method not allowed"));
+        }
+    }
+
+    private void handleTask(HttpExchange exchange, String method, long id, String action) throws IOException {
+        Task task = taskList.getTaskById(id);
+        if (task == null) {
+            send(exchange, 404, Json.error("No task with id " + id));
+            return;
+        }
+        try {
+            if (action == null && method.equals("GET")) {
+                send(exchange, 200, Json.task(task));
+            } else if (action == null && method.equals("DELETE")) {
+                send(exchange, 200, Json.task(taskList.deleteTaskById(id)));
+            } else if (action != null && method.equals("POST") && (action.equals("mark") || action.equals("unmark"))) {
+                send(exchange, 200, Json.task(taskList.markTaskById(id, action.equals("mark"))));
+            } else {
+                send(exchange, 405, Json.error("Method not allowed"));
+            }
+        } catch (IllegalArgumentException e) {
+            // Deleted by another request since the lookup above
+            send(exchange, 404, Json.error("No task with id " + id));
+        }
+    }
+
+    /**
+     * Builds a task from the fields of a {@code POST /tasks} body.
+     */
+    private static Task createTask(Map<String, String> fields) {
+        StringPool pool = StringPool.shared();
+        String type = fields.getOrDefault("type", "");
+        String desc = textField(fields, "desc");
+        if (desc == null || desc.isEmpty()) {
+            throw new IllegalArgumentException("Task must have a desc");
+        }
+        desc = pool.intern(desc);
+        switch (type) {
+        case "todo":
+            return new ToDo(desc);
+        case "deadline":
+            try {
+                return new Deadline(desc, LocalDateTime.parse(fields.getOrDefault("by", ""), Parser.INPUT_FORMAT));
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Deadline must have a by time in d/M/yyyy HHmm");
+            }
+        case "event":
+            String from = textField(fields, "from");
+            String to = textField(fields, "to");
+            if (from == null || to == null) {
+                throw new IllegalArgumentException("Event must have from and to times");
+            }
+            return new Event(desc, pool.intern(from), pool.intern(to));
+        default:
+            throw new IllegalArgumentException("Task type must be todo, deadline or event");
+        }
+    }
+
+    /**
+     * Returns a text field of a request body without surrounding whitespace, or {@code null} if it
+     * is missing. Control characters such as line breaks are rejected, since each task is stored
+     * as a single line.
+     */
+    private static String textField(Map<String, String> fields, String name) {
+        String value = fields.get(name);
+        if (value == null) {
+            return null;
+        }
+        value = value.strip();
+        for (int i = 0; i < value.length(); i++) {
+            if (Character.isISOControl(value.charAt(i))) {
+                throw new IllegalArgumentException("Field " + name + " must not contain control characters");
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Parses a task id from the request path, returning -1 (which no task has) if it is not a number.
+     */
+    private static long parseId(String text) {
+        try {
+            return Long.parseLong(text);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static String queryParameter(HttpExchange exchange, String name) {
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query == null) {
+            return null;
+        }
+        for (String parameter : query.split("&")) {
+            int equals = parameter.indexOf('=');
+            String key = equals < 0 ? parameter : parameter.substring(0, equals);
+            if (URLDecoder.decode(key, StandardCharsets.UTF_8).equals(name)) {
+                return equals < 0 ? "" : URLDecoder.decode(parameter.substring(equals + 1), StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+
+    private static void send(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
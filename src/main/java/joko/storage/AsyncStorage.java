@@ -0,0 +1,202 @@
+package joko.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import joko.task.Task;
+
+/**
+ * A {@link Storage} that persists changes on a background writer thread.
+ * <p>
+ * Mutations only mark the list as dirty and return immediately. The writer saves a snapshot of
+ * the list through the wrapped storage once {@code maxDelayMillis} has passed since the first
+ * unsaved change, or as soon as {@code maxBatch} changes have accumulated, so a burst of commands
+ * costs a single write. {@link #flush()} and {@link #close()} block until everything is on disk.
+ * Each write flushes the wrapped storage, so under {@link Durability#BATCH} every batch is forced
+ * onto the disk by the writer thread.
+ * </p>
+ * <p>
+ * The snapshot is copied while holding the list's monitor, which {@link joko.task.TaskList}
+ * also holds while mutating.
+ * </p>
+ * <p>
+ * Only storages that save whole snapshots can be wrapped. {@link JournalStorage} and
+ * {@link PatchingStorage} write each change by its position in the list at the time it is made,
+ * which a later write on another thread cannot reproduce, and their writes are already small
+ * enough to make on the calling thread.
+ * </p>
+ */
+public class AsyncStorage extends Storage {
+    /** The default maximum time a change may wait before it is written. */
+    public static final long DEFAULT_MAX_DELAY_MILLIS = 200;
+
+    /** The default number of changes that forces an immediate write. */
+    public static final int DEFAULT_MAX_BATCH = 100;
+
+    /** The storage that actually writes the tasks. */
+    private final Storage delegate;
+
+    /** The maximum time a change may wait before it is written. */
+    private final long maxDelayMillis;
+
+    /** The number of changes that forces an immediate write. */
+    private final int maxBatch;
+
+    /** The single writer thread, so writes reach the delegate in order. */
+    private final ScheduledExecutorService writer;
+
+    /** The list to save on the next write, or {@code null} if nothing is pending. */
+    private List<Task> pendingTasks;
+
+    /** The number of changes since the last write. */
+    private int pendingCount;
+
+    /** The delayed write that is currently scheduled, if any. */
+    private ScheduledFuture<?> scheduledWrite;
+
+    /**
+     * Constructs a new {@code AsyncStorage} with the default delay and batch size.
+     *
+     * @param delegate the storage that performs the writes
+     */
+    public AsyncStorage(Storage delegate) {
+        this(delegate, DEFAULT_MAX_DELAY_MILLIS, DEFAULT_MAX_BATCH);
+    }
+
+    /**
+     * Constructs a new {@code AsyncStorage}.
+     *
+     * @param delegate       the storage that performs the writes
+     * @param maxDelayMillis the maximum time a change may wait before it is written
+     * @param maxBatch       the number of changes that forces an immediate write
+     * @throws IllegalArgumentException if {@code delegate} is a {@link JournalStorage} or
+     *                                  {@link PatchingStorage}
+     */
+    public AsyncStorage(Storage delegate, long maxDelayMillis, int maxBatch) {
+        super(delegate.filename);
+        if (delegate instanceof JournalStorage || delegate instanceof PatchingStorage) {
+            throw new IllegalArgumentException("Asynchronous writes need a storage that saves whole snapshots");
+        }
+        assert maxDelayMillis >= 0 : "Maximum delay must not be negative";
+        assert maxBatch > 0 : "Maximum batch size must be positive";
+        this.delegate = delegate;
+        this.maxDelayMillis = maxDelayMillis;
+        this.maxBatch = maxBatch;
+        this.writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "joko-storage-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public ArrayList<Task> loadTasks() {
+        return delegate.loadTasks();
+    }
+
+    @Override
+    public void saveTasks(List<Task> tasks) {
+        enqueue(tasks);
+    }
+
+    @Override
+    public void recordAdd(List<Task> tasks, Task task) {
+        enqueue(tasks);
+    }
+
+    @Override
+    public void recordDelete(List<Task> tasks, int index) {
+        enqueue(tasks);
+    }
+
+    @Override
+    public void recordMark(List<Task> tasks, int index) {
+        enqueue(tasks);
+    }
+
+    @Override
+    public void recordDeletes(List<Task> tasks, int[] indices) {
+        enqueue(tasks);
+    }
+
+    @Override
+    public void recordMarks(List<Task> tasks, int[] indices) {
+        enqueue(tasks);
+    }
+
+    /**
+     * Writes any pending changes and waits until they have been saved.
+     */
+    @Override
+    public void flush() {
+        try {
+            writer.submit(this::writePending).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            reportError("Error saving tasks: " + e.getCause().getMessage());
+        }
+        delegate.flush();
+    }
+
+    /**
+     * Writes any pending changes and stops the writer thread.
+     */
+    @Override
+    public void close() {
+        flush();
+        writer.shutdown();
+        delegate.close();
+    }
+
+    /**
+     * Returns the last error met by this storage or by the background writes.
+     *
+     * @return the error message, or {@code null} if every write since the last call succeeded
+     */
+    @Override
+    public String takeError() {
+        String error = super.takeError();
+        String delegateError = delegate.takeError();
+        return error != null ? error : delegateError;
+    }
+
+    private synchronized void enqueue(List<Task> tasks) {
+        pendingTasks = tasks;
+        pendingCount++;
+        if (pendingCount >= maxBatch) {
+            if (scheduledWrite != null) {
+                scheduledWrite.cancel(false);
+                scheduledWrite = null;
+            }
+            writer.execute(this::writePending);
+        } else if (scheduledWrite == null) {
+            scheduledWrite = writer.schedule(this::writePending, maxDelayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void writePending() {
+        List<Task> tasks;
+        synchronized (this) {
+            tasks = pendingTasks;
+            pendingTasks = null;
+            pendingCount = 0;
+            scheduledWrite = null;
+        }
+        if (tasks == null) {
+            return;
+        }
+
+        ArrayList<Task> snapshot;
+        synchronized (tasks) {
+            snapshot = new ArrayList<>(tasks);
+        }
+        delegate.saveTasks(snapshot);
+        delegate.flush();
+    }
+}
@@ -0,0 +1,98 @@
+package joko.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import joko.task.Task;
+
+/**
+ * A {@link Storage} that holds back every change until {@link #flush()} or {@link #close()}.
+ * <p>
+ * Mutations only remember which list to save, so running a whole script of commands costs a
+ * single write through the wrapped storage at the end. Unlike {@link AsyncStorage}, nothing is
+ * written in the background: changes made since the last flush are lost if the program dies.
+ * </p>
+ */
+public class DeferredStorage extends Storage {
+    /** The storage that actually writes the tasks. */
+    private final Storage delegate;
+
+    /** The list to save on the next flush, or {@code null} if nothing has changed. */
+    private List<Task> pendingTasks;
+
+    /**
+     * Constructs a new {@code DeferredStorage}.
+     *
+     * @param delegate the storage that performs the write
+     */
+    public DeferredStorage(Storage delegate) {
+        super(delegate.filename);
+        this.delegate = delegate;
+    }
+
+    @Override
+    public ArrayList<Task> loadTasks() {
+        return delegate.loadTasks();
+    }
+
+    @Override
+    public void saveTasks(List<Task> tasks) {
+        pendingTasks = tasks;
+    }
+
+    @Override
+    public void recordAdd(List<Task> tasks, Task task) {
+        pendingTasks = tasks;
+    }
+
+    @Override
+    public void recordDelete(List<Task> tasks, int index) {
+        pendingTasks = tasks;
+    }
+
+    @Override
+    public void recordMark(List<Task> tasks, int index) {
+        pendingTasks = tasks;
+    }
+
+    @Override
+    public void recordDeletes(List<Task> tasks, int[] indices) {
+        pendingTasks = tasks;
+    }
+
+    @Override
+    public void recordMarks(List<Task> tasks, int[] indices) {
+        pendingTasks = tasks;
+    }
+
+    /**
+     * Saves the list through the wrapped storage if it has changed since the last flush.
+     */
+    @Override
+    public void flush() {
+        if (pendingTasks != null) {
+            delegate.saveTasks(pendingTasks);
+            pendingTasks = null;
+        }
+        delegate.flush();
+    }
+
+    /**
+     * Saves any pending changes and closes the wrapped storage.
+     */
+    @Override
+    public void close() {
+        flush();
+        delegate.close();
+    }
+
+    /**
+     * Returns the last error met by the wrapped storage.
+     *
+     * @return the error message, or {@code null} if every write since the last call succeeded
+     */
+    @Override
+    public String takeError() {
+        return delegate.takeError();
+    }
+}
@@ -0,0 +1,32 @@
+package joko.storage;
+
+/**
+ * How far a {@link Storage} goes to make sure saved changes survive a crash or power loss.
+ * <p>
+ * Whole-file saves write a temporary file that then replaces the task file, so if the program
+ * crashes the file holds either the old list or the new one. The level decides when writes,
+ * whole-file or in place, are forced from the operating system's cache onto the disk, which is
+ * what costs time. Until a whole-file save is forced, a power loss or kernel crash may leave
+ * the old file, the new one or, on some file systems, an empty or partly written one.
+ * </p>
+ */
+public enum Durability {
+    /**
+     * Never forces writes. Survives the program crashing, but a power loss or kernel crash may
+     * lose recent changes or damage the task file.
+     */
+    NONE,
+
+    /**
+     * Forces outstanding writes once per batch, when the storage is flushed or closed (and after
+     * each background write of an {@link AsyncStorage}). A power loss may lose the changes made
+     * since the last flush, or damage the task file if a whole-file save was among them.
+     */
+    BATCH,
+
+    /**
+     * Forces every write before it returns, so each completed command is on disk. Whole-file
+     * saves are forced before they replace the task file, so it is never left damaged.
+     */
+    EVERY_WRITE
+}
@@ -0,0 +1,396 @@
+package joko.storage;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import joko.task.Task;
+
+/**
+ * A {@link Storage} that appends each change to a journal instead of rewriting the task file.
+ * <p>
+ * The task file written by {@link Storage#saveTasks(List)} acts as a snapshot, and every
+ * add, delete and mark is appended as one record to {@code <filename>.log}:
+ * <ul>
+ *     <li>Snapshot: S | checksum</li>
+ *     <li>Add: A | id | &lt;task line&gt; # crc</li>
+ *     <li>Delete: D | id # crc</li>
+ *     <li>Mark: M | id | doneFlag # crc</li>
+ * </ul>
+ * Each change record ends with the CRC-32 of the text before {@code " # "}, in hex, so a
+ * record cut short by a crash is rejected rather than replayed as a shorter task or flag.
+ * Records refer to tasks by a journal id: the tasks of the snapshot have ids 1 to n in file
+ * order and each added task takes the next unused id, so a task keeps its id until the next
+ * snapshot. The first line holds the CRC-32 of the snapshot that the records apply to, and a
+ * journal whose checksum does not match the task file is stale and is not replayed; this covers
+ * a crash between writing a new snapshot and clearing the journal. Once the journal holds
+ * {@code compactThreshold} records it is folded into a fresh snapshot and cleared.
+ * </p>
+ */
+public class JournalStorage extends Storage {
+    /** The default number of journal records kept before compacting. */
+    public static final int DEFAULT_COMPACT_THRESHOLD = 1000;
+
+    /** The file that journal records are appended to. */
+    private final File journal;
+
+    /** The number of records after which the journal is compacted into the snapshot. */
+    private final int compactThreshold;
+
+    /** The number of records currently in the journal, not counting the snapshot line. */
+    private int recordCount;
+
+    /** Whether the journal starts with the snapshot line for the current task file. */
+    private boolean hasHeader;
+
+    /** The CRC-32 of the task file, or {@code -1} until it is needed. */
+    private long snapshotChecksum = -1;
+
+    /** The journal id of each task, in list order. */
+    private long[] ids = new long[16];
+
+    /** The number of tasks with an id. */
+    private int count;
+
+    /** The id given to the next task added. */
+    private long nextId = 1;
+
+    /**
+     * Constructs a new {@code JournalStorage} with the default compaction threshold.
+     *
+     * @param filename the file path of the snapshot
+     */
+    public JournalStorage(String filename) {
+        this(filename, DEFAULT_COMPACT_THRESHOLD);
+    }
+
+    /**
+     * Constructs a new {@code JournalStorage}.
+     *
+     * @param filename         the file path of the snapshot
+     * @param compactThreshold the number of journal records kept before compacting
+     */
+    public JournalStorage(String filename, int compactThreshold) {
+        super(filename);
+        assert compactThreshold > 0 : "Compaction threshold must be positive";
+        this.journal = new File(filename + ".log");
+        this.compactThreshold = compactThreshold;
+    }
+
+    /**
+     * Loads the snapshot and replays the journal on top of it.
+     * <p>
+     * A stale journal is ignored. An unreadable record, such as one truncated by a crash
+     * mid-append, ends the replay, and the tasks replayed so far are written to a new snapshot
+     * so that later records are not appended after it.
+     * </p>
+     *
+     * @return the tasks as of the last journal record
+     */
+    @Override
+    public ArrayList<Task> loadTasks() {
+        ArrayList<Task> tasks = super.loadTasks();
+        recordCount = 0;
+        hasHeader = false;
+        snapshotChecksum = -1;
+        count = 0;
+        nextId = 1;
+        for (int i = 0; i < tasks.size(); i++) {
+            addId(nextId++);
+        }
+        if (!journal.exists()) {
+            return tasks;
+        }
+
+        boolean isComplete = true;
+        try (BufferedReader reader = new BufferedReader(new FileReader(journal, StandardCharsets.UTF_8))) {
+            String header = reader.readLine();
+            if (header == null) {
+                return tasks;
+            } else if (!header.equals(snapshotRecord())) {
+                System.out.println("Ignoring journal written for an older task file");
+                return tasks;
+            }
+            hasHeader = true;
+
+            Map<Long, Task> byId = new LinkedHashMap<>();
+            for (int i = 0; i < tasks.size(); i++) {
+                byId.put(ids[i], tasks.get(i));
+            }
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!replay(byId, line)) {
+                    System.out.println("Ignoring unreadable journal record: " + line);
+                    isComplete = false;
+                    break;
+                }
+                recordCount++;
+            }
+
+            tasks = new ArrayList<>(byId.values());
+            count = 0;
+            for (long id : byId.keySet()) {
+                addId(id);
+            }
+        } catch (IOException e) {
+            System.out.println("Error loading journal: " + e.getMessage());
+        }
+        if (!isComplete) {
+            saveTasks(tasks);
+        }
+        return tasks;
+    }
+
+    /**
+     * Writes a full snapshot and clears the journal.
+     * <p>
+     * The journal is cleared only once the snapshot has replaced the task file, so a failed
+     * save leaves both as they were.
+     * </p>
+     *
+     * @param tasks the list of tasks to save
+     */
+    @Override
+    public void saveTasks(List<Task> tasks) {
+        CRC32 checksum = new CRC32();
+        try {
+            writeAtomically(out -> writeTasks(new CheckedOutputStream(out, checksum), tasks));
+        } catch (IOException e) {
+            reportError("Error saving tasks: " + e.getMessage());
+            return;
+        }
+        snapshotChecksum = checksum.getValue();
+        count = 0;
+        nextId = 1;
+        for (int i = 0; i < tasks.size(); i++) {
+            addId(nextId++);
+        }
+
+        try (FileOutputStream out = new FileOutputStream(journal)) {
+            out.write((snapshotRecord() + System.lineSeparator()).getBytes(StandardCharsets.UTF_8));
+            afterWrite(out.getChannel());
+            hasHeader = true;
+            recordCount = 0;
+        } catch (IOException e) {
+            hasHeader = false;
+            reportError("Error clearing journal: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void recordAdd(List<Task> tasks, Task task) {
+        String line = formatTask(task);
+        if (count != tasks.size() - 1 || line == null) {
+            saveTasks(tasks);
+            return;
+        }
+        long id = nextId++;
+        addId(id);
+        append(tasks, seal("A | " + id + " | " + line), 1);
+    }
+
+    @Override
+    public void recordDelete(List<Task> tasks, int index) {
+        recordDeletes(tasks, new int[] {index});
+    }
+
+    @Override
+    public void recordMark(List<Task> tasks, int index) {
+        recordMarks(tasks, new int[] {index});
+    }
+
+    /**
+     * Appends one delete record per task in a single write.
+     *
+     * @param tasks   the full list of tasks after the change
+     * @param indices the 0-based positions, ascending, that the tasks had before the change
+     */
+    @Override
+    public void recordDeletes(List<Task> tasks, int[] indices) {
+        if (indices.length == 0) {
+            return;
+        }
+        if (count != tasks.size() + indices.length) {
+            saveTasks(tasks);
+            return;
+        }
+        StringBuilder records = new StringBuilder();
+        for (int index : indices) {
+            records.append(seal("D | " + ids[index]));
+        }
+        removeIds(indices);
+        append(tasks, records, indices.length);
+    }
+
+    /**
+     * Appends one mark record per task in a single write.
+     *
+     * @param tasks   the full list of tasks after the change
+     * @param indices the 0-based positions of the updated tasks, ascending
+     */
+    @Override
+    public void recordMarks(List<Task> tasks, int[] indices) {
+        if (count != tasks.size()) {
+            saveTasks(tasks);
+            return;
+        }
+        StringBuilder records = new StringBuilder();
+        for (int index : indices) {
+            records.append(seal("M | " + ids[index] + " | " + (tasks.get(index).isDone() ? '1' : '0')));
+        }
+        append(tasks, records, indices.length);
+    }
+
+    /**
+     * Forces the journal as well as the snapshot onto the disk.
+     *
+     * @throws IOException if a file cannot be forced
+     */
+    @Override
+    protected void forceFiles() throws IOException {
+        super.forceFiles();
+        force(journal.toPath());
+    }
+
+    /**
+     * Returns the number of records currently held in the journal.
+     *
+     * @return the journal record count
+     */
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Appends {@code count} newline-terminated records to the journal, or writes a snapshot instead
+     * if the journal would grow past the compaction threshold or cannot be written.
+     * <p>
+     * A journal without the snapshot line for the current task file is started afresh.
+     * </p>
+     */
+    private void append(List<Task> tasks, CharSequence records, int count) {
+        if (recordCount + count > compactThreshold) {
+            saveTasks(tasks);
+            return;
+        }
+        try (FileOutputStream out = new FileOutputStream(journal, hasHeader)) {
+            String header = hasHeader ? "" : snapshotRecord() + System.lineSeparator();
+            out.write((header + records).getBytes(StandardCharsets.UTF_8));
+            afterWrite(out.getChannel());
+            hasHeader = true;
+            recordCount += count;
+        } catch (IOException e) {
+            reportError("Error writing journal: " + e.getMessage());
+            saveTasks(tasks);
+        }
+    }
+
+    /**
+     * Returns the first line of a journal that applies to the current task file.
+     */
+    private String snapshotRecord() throws IOException {
+        if (snapshotChecksum < 0) {
+            CRC32 checksum = new CRC32();
+            Path path = Paths.get(filename);
+            if (Files.exists(path)) {
+                try (InputStream in = Files.newInputStream(path)) {
+                    byte[] buffer = new byte[1 << 16];
+                    int read;
+                    while ((read = in.read(buffer)) > 0) {
+                        checksum.update(buffer, 0, read);
+                    }
+                }
+            }
+            snapshotChecksum = checksum.getValue();
+        }
+        return "S | " + Long.toHexString(snapshotChecksum);
+    }
+
+    private void addId(long id) {
+        if (count == ids.length) {
+            ids = Arrays.copyOf(ids, count * 2);
+        }
+        ids[count++] = id;
+        nextId = Math.max(nextId, id + 1);
+    }
+
+    /**
+     * Removes the ids at the given ascending positions in one pass.
+     */
+    private void removeIds(int[] indices) {
+        int write = indices[0];
+        int next = 0;
+        for (int read = indices[0]; read < count; read++) {
+            if (next < indices.length && indices[next] == read) {
+                next++;
+            } else {
+                ids[write++] = ids[read];
+            }
+        }
+        count = write;
+    }
+
+    /**
+     * Returns a change record followed by its checksum and a line separator.
+     */
+    private static String seal(String record) {
+        return record + " # " + Long.toHexString(checksum(record)) + System.lineSeparator();
+    }
+
+    private static long checksum(String record) {
+        CRC32 checksum = new CRC32();
+        checksum.update(record.getBytes(StandardCharsets.UTF_8));
+        return checksum.getValue();
+    }
+
+    private static boolean replay(Map<Long, Task> byId, String line) {
+        int mark = line.lastIndexOf(" # ");
+        if (mark < 0) {
+            return false;
+        }
+        String record = line.substring(0, mark);
+        try {
+            if (Long.parseLong(line.substring(mark + 3), 16) != checksum(record)) {
+                return false;
+            }
+            String[] parts = record.split(" \\| ", 3);
+            long id = Long.parseLong(parts[1]);
+            switch (parts[0]) {
+            case "A":
+                Task task = parseTask(parts[2]);
+                if (task == null || byId.containsKey(id)) {
+                    return false;
+                }
+                byId.put(id, task);
+                return true;
+            case "D":
+                return parts.length == 2 && byId.remove(id) != null;
+            case "M":
+                Task marked = byId.get(id);
+                if (marked == null || parts.length != 3 || !(parts[2].equals("0") || parts[2].equals("1"))) {
+                    return false;
+                }
+                marked.setDone(parts[2].equals("1"));
+                return true;
+            default:
+                return false;
+            }
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package joko.storage;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import joko.task.Deadline;
+import joko.task.Event;
+import joko.task.StringPool;
+import joko.task.Task;
+import joko.task.ToDo;
+
+/**
+ * Loads a text task file by memory-mapping it and parsing the bytes in place.
+ * <p>
+ * Unlike the {@link java.util.Scanner} path in {@link Storage#loadTasks()}, no line strings or
+ * split arrays are created: fields are located by scanning for the {@code " | "} separator, the
+ * done flag and deadline digits are read straight from the buffer, and only the description and
+ * event times are decoded into strings, through the shared {@link StringPool} so that repeated
+ * values are decoded once. The accepted format is exactly the one written by
+ * {@link Storage#saveTasks(List)}, with either {@code \n} or {@code \r\n} line endings.
+ * </p>
+ */
+class MappedTaskLoader {
+    /** The mapped contents of the file. */
+    private final MappedByteBuffer buffer;
+
+    /** Scratch space for decoding strings, grown as needed. */
+    private byte[] scratch = new byte[256];
+
+    private MappedTaskLoader(MappedByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * Loads all tasks from the given text task file.
+     *
+     * @param path the file to load
+     * @return the tasks in file order
+     * @throws IOException if the file cannot be mapped
+     * @throws IllegalArgumentException if a line is not a valid task record
+     */
+    static ArrayList<Task> load(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("File too large to map: " + path);
+            }
+            return new MappedTaskLoader(channel.map(FileChannel.MapMode.READ_ONLY, 0, size)).parseAll();
+        }
+    }
+
+    private ArrayList<Task> parseAll() {
+        ArrayList<Task> tasks = new ArrayList<>();
+        int limit = buffer.limit();
+        int lineNumber = 0;
+        int start = 0;
+        while (start < limit) {
+            lineNumber++;
+            int lineEnd = indexOf((byte) '\n', start, limit);
+            int end = lineEnd;
+            if (end > start && buffer.get(end - 1) == '\r') {
+                end--;
+            }
+            if (end > start) {
+                try {
+                    Task task = parseLine(start, end);
+                    if (task != null) {
+                        tasks.add(task);
+                    }
+                } catch (RuntimeException e) {
+                    throw new IllegalArgumentException("Invalid task on line " + lineNumber, e);
+                }
+            }
+            start = lineEnd + 1;
+        }
+        return tasks;
+    }
+
+    private Task parseLine(int start, int end) {
+        int typeEnd = nextSeparator(start, end);
+        int doneStart = typeEnd + 3;
+        int doneEnd = nextSeparator(doneStart, end);
+        int descStart = doneEnd + 3;
+        int descEnd = nextSeparator(descStart, end);
+        if (typeEnd - start != 1 || descStart > end) {
+            throw new IllegalArgumentException("Missing fields");
+        }
+
+        byte type = buffer.get(start);
+        boolean isDone = doneEnd - doneStart == 1 && buffer.get(doneStart) == '1';
+        String desc = decode(descStart, descEnd);
+
+        Task task = null;
+        if (type == 'T') {
+            task = new ToDo(desc);
+        } else if (type == 'D') {
+            int byStart = descEnd + 3;
+            task = new Deadline(desc, parseDateTime(byStart, nextSeparator(byStart, end)));
+        } else if (type == 'E') {
+            int fromStart = descEnd + 3;
+            int fromEnd = nextSeparator(fromStart, end);
+            int toStart = fromEnd + 3;
+            if (toStart > end) {
+                throw new IllegalArgumentException("Missing event end time");
+            }
+            task = new Event(desc, decode(fromStart, fromEnd), decode(toStart, nextSeparator(toStart, end)));
+        }
+
+        if (task != null) {
+            task.setDone(isDone);
+        }
+        return task;
+    }
+
+    /**
+     * Parses a date-time in the file format {@code dd/MM/yyyy HHmm}.
+     */
+    private LocalDateTime parseDateTime(int start, int end) {
+        if (end - start != 15 || buffer.get(start + 2) != '/' || buffer.get(start + 5) != '/'
+                || buffer.get(start + 10) != ' ') {
+            throw new IllegalArgumentException("Invalid deadline");
+        }
+        return LocalDateTime.of(digits(start + 6, 4), digits(start + 3, 2), digits(start, 2),
+                digits(start + 11, 2), digits(start + 13, 2));
+    }
+
+    private int digits(int start, int count) {
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            int digit = buffer.get(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new IllegalArgumentException("Invalid digit");
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private String decode(int start, int end) {
+        int length = end - start;
+        if (length > scratch.length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        buffer.get(start, scratch, 0, length);
+        return StringPool.shared().intern(scratch, 0, length);
+    }
+
+    /**
+     * Returns the position of the next {@code " | "} separator in [start, end), or {@code end}.
+     */
+    private int nextSeparator(int start, int end) {
+        for (int i = start; i + 2 < end; i++) {
+            if (buffer.get(i) == ' ' && buffer.get(i + 1) == '|' && buffer.get(i + 2) == ' ') {
+                return i;
+            }
+        }
+        return end;
+    }
+
+    private int indexOf(byte b, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (buffer.get(i) == b) {
+                return i;
+            }
+        }
+        return end;
+    }
+}
@@ -0,0 +1,356 @@
+package joko.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import joko.task.Task;
+
+/**
+ * A {@link Storage} that keeps the usual text task file but rewrites only the bytes that change.
+ * <p>
+ * The byte offset of every record in the file is tracked, so:
+ * <ul>
+ *     <li>marking or unmarking a task overwrites its single {@code 0}/{@code 1} done flag;</li>
+ *     <li>adding a task appends its record to the end of the file;</li>
+ *     <li>deleting a task overwrites its type letter with {@code X}, leaving a tombstone that
+ *     every loader skips.</li>
+ * </ul>
+ * Tombstones are removed by compacting, i.e. atomically rewriting the whole file, once they
+ * outnumber the live records, and when the storage is closed. Records are written with
+ * {@code \n} line endings. In-place writes are not atomic, but each is a single record or byte,
+ * and they are forced according to the {@link Durability} level like any other write.
+ * </p>
+ * <p>
+ * The offsets are found by {@link #loadTasks()} and kept up to date by every save, so the
+ * storage must be loaded (or saved) before changes are recorded; a change that does not match
+ * the tracked records falls back to rewriting the file. {@link DeferredStorage} only ever calls
+ * {@link #saveTasks(List)}, so it gets no benefit, and {@link AsyncStorage} refuses to wrap it.
+ * </p>
+ */
+public class PatchingStorage extends Storage {
+    /** The type letter that marks a deleted record. */
+    static final byte TOMBSTONE = 'X';
+
+    /** The position of the done flag within a record, after the type letter and {@code " | "}. */
+    private static final int DONE_OFFSET = 4;
+
+    /** The file that records are written to. */
+    private final Path path;
+
+    /** The open file, or {@code null} until the first write. */
+    private FileChannel channel;
+
+    /** The byte offset of each live record, in list order. */
+    private long[] offsets = new long[16];
+
+    /** The number of live records. */
+    private int count;
+
+    /** The length of the file, where the next record is appended. */
+    private long fileLength;
+
+    /** The number of tombstones in the file. */
+    private int tombstones;
+
+    /** The total number of bytes written to the file. */
+    private long bytesWritten;
+
+    /**
+     * Constructs a new {@code PatchingStorage} with the given filename.
+     *
+     * @param filename the file path to save and load tasks
+     */
+    public PatchingStorage(String filename) {
+        super(filename);
+        this.path = Paths.get(filename);
+    }
+
+    /**
+     * Loads tasks from the file, noting the offset of each record.
+     * <p>
+     * The file is always read whole rather than memory-mapped. Tombstones are skipped, as are
+     * unreadable records, which the next compaction drops. Every record is written with its line
+     * ending, so a last line without one, or an unreadable last record, is what an append cut
+     * short by a crash leaves behind, and it is cut off the file.
+     * </p>
+     *
+     * @return an {@link ArrayList} of tasks loaded from the file
+     */
+    @Override
+    public ArrayList<Task> loadTasks() {
+        ArrayList<Task> tasks = new ArrayList<>();
+        count = 0;
+        tombstones = 0;
+        fileLength = 0;
+        if (!Files.exists(path)) {
+            return tasks;
+        }
+
+        byte[] bytes;
+        try {
+            bytes = Files.readAllBytes(path);
+        } catch (IOException e) {
+            System.out.println("Error loading tasks: " + e.getMessage());
+            return tasks;
+        }
+        fileLength = bytes.length;
+
+        int start = 0;
+        while (start < bytes.length) {
+            int lineEnd = start;
+            while (lineEnd < bytes.length && bytes[lineEnd] != '\n') {
+                lineEnd++;
+            }
+            int end = lineEnd > start && bytes[lineEnd - 1] == '\r' ? lineEnd - 1 : lineEnd;
+            String line = new String(bytes, start, end - start, StandardCharsets.UTF_8);
+            if (lineEnd == bytes.length) {
+                cutTornRecord(start, line);
+                break;
+            } else if (end > start && bytes[start] == TOMBSTONE) {
+                tombstones++;
+            } else if (end > start) {
+                Task task;
+                try {
+                    task = parseTask(line);
+                } catch (RuntimeException e) {
+                    if (lineEnd + 1 == bytes.length) {
+                        cutTornRecord(start, line);
+                        break;
+                    }
+                    System.out.println("Ignoring unreadable task record: " + line);
+                    task = null;
+                }
+                if (task != null) {
+                    tasks.add(task);
+                    addOffset(start);
+                }
+            }
+            start = lineEnd + 1;
+        }
+        return tasks;
+    }
+
+    /**
+     * Rewrites the whole file atomically, dropping any tombstones.
+     *
+     * @param tasks the list of tasks to save
+     */
+    @Override
+    public void saveTasks(List<Task> tasks) {
+        ByteArrayOutputStream content = new ByteArrayOutputStream(tasks.size() * 48);
+        long[] newOffsets = new long[Math.max(tasks.size(), 16)];
+        int newCount = 0;
+        for (Task t : tasks) {
+            String line = formatTask(t);
+            if (line != null) {
+                newOffsets[newCount++] = content.size();
+                content.writeBytes((line + "\n").getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        try {
+            closeChannel();
+            writeAtomically(content::writeTo);
+            bytesWritten += content.size();
+            offsets = newOffsets;
+            count = newCount;
+            fileLength = content.size();
+            tombstones = 0;
+        } catch (IOException e) {
+            reportError("Error saving tasks: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void recordAdd(List<Task> tasks, Task task) {
+        String line = formatTask(task);
+        if (count != tasks.size() - 1 || line == null) {
+            saveTasks(tasks);
+            return;
+        }
+        byte[] bytes = (line + "\n").getBytes(StandardCharsets.UTF_8);
+        try {
+            write(ByteBuffer.wrap(bytes), fileLength);
+            afterWrite(channel);
+            addOffset(fileLength);
+            fileLength += bytes.length;
+        } catch (IOException e) {
+            reportError("Error saving tasks: " + e.getMessage());
+            saveTasks(tasks);
+        }
+    }
+
+    @Override
+    public void recordDelete(List<Task> tasks, int index) {
+        recordDeletes(tasks, new int[] {index});
+    }
+
+    @Override
+    public void recordMark(List<Task> tasks, int index) {
+        recordMarks(tasks, new int[] {index});
+    }
+
+    /**
+     * Turns the records of the deleted tasks into tombstones, compacting the file if they now
+     * outnumber the live records.
+     *
+     * @param tasks   the full list of tasks after the change
+     * @param indices the 0-based positions, ascending, that the tasks had before the change
+     */
+    @Override
+    public void recordDeletes(List<Task> tasks, int[] indices) {
+        if (indices.length == 0) {
+            return;
+        }
+        if (count != tasks.size() + indices.length) {
+            saveTasks(tasks);
+            return;
+        }
+        try {
+            for (int index : indices) {
+                patch(offsets[index], TOMBSTONE);
+            }
+            afterWrite(channel);
+        } catch (IOException e) {
+            reportError("Error saving tasks: " + e.getMessage());
+            saveTasks(tasks);
+            return;
+        }
+        removeOffsets(indices);
+        tombstones += indices.length;
+        if (tombstones > count) {
+            saveTasks(tasks);
+        }
+    }
+
+    /**
+     * Overwrites the done flag of each updated task.
+     *
+     * @param tasks   the full list of tasks after the change
+     * @param indices the 0-based positions of the updated tasks, ascending
+     */
+    @Override
+    public void recordMarks(List<Task> tasks, int[] indices) {
+        if (count != tasks.size()) {
+            saveTasks(tasks);
+            return;
+        }
+        try {
+            for (int index : indices) {
+                patch(offsets[index] + DONE_OFFSET, (byte) (tasks.get(index).isDone() ? '1' : '0'));
+            }
+            afterWrite(channel);
+        } catch (IOException e) {
+            reportError("Error saving tasks: " + e.getMessage());
+            saveTasks(tasks);
+        }
+    }
+
+    /**
+     * Compacts away any tombstones, forces outstanding writes and closes the file.
+     */
+    @Override
+    public void close() {
+        if (tombstones > 0) {
+            saveTasks(loadTasks());
+        }
+        flush();
+        try {
+            closeChannel();
+        } catch (IOException e) {
+            reportError("Error closing task file: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the total number of bytes written to the file by this storage.
+     *
+     * @return the bytes written, including full rewrites
+     */
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    /**
+     * Returns the number of deleted records still in the file.
+     *
+     * @return the tombstone count
+     */
+    public int getTombstoneCount() {
+        return tombstones;
+    }
+
+    /**
+     * Truncates the file before a torn record at its end, so the next append starts a fresh line.
+     */
+    private void cutTornRecord(long offset, String line) {
+        System.out.println("Removing incomplete task record: " + line);
+        try {
+            channel().truncate(offset);
+            afterWrite(channel);
+            fileLength = offset;
+        } catch (IOException e) {
+            reportError("Error saving tasks: " + e.getMessage());
+        }
+    }
+
+    private void patch(long position, byte b) throws IOException {
+        write(ByteBuffer.wrap(new byte[] {b}), position);
+    }
+
+    private void write(ByteBuffer buffer, long position) throws IOException {
+        FileChannel out = channel();
+        while (buffer.hasRemaining()) {
+            int written = out.write(buffer, position);
+            position += written;
+            bytesWritten += written;
+        }
+    }
+
+    private FileChannel channel() throws IOException {
+        if (channel == null) {
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        }
+        return channel;
+    }
+
+    private void closeChannel() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    private void addOffset(long offset) {
+        if (count == offsets.length) {
+            offsets = Arrays.copyOf(offsets, count * 2);
+        }
+        offsets[count++] = offset;
+    }
+
+    /**
+     * Removes the offsets at the given ascending positions in one pass.
+     */
+    private void removeOffsets(int[] indices) {
+        int write = indices[0];
+        int next = 0;
+        for (int read = indices[0]; read < count; read++) {
+            if (next < indices.length && indices[next] == read) {
+                next++;
+            } else {
+                offsets[write++] = offsets[read];
+            }
+        }
+        count = write;
+    }
+}
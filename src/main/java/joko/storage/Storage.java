@@ -1,14 +1,31 @@
 package joko.storage;
 
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Scanner;
 
 import joko.task.Deadline;
 import joko.task.Event;
+import joko.task.StringPool;
 import joko.task.Task;
 import joko.task.ToDo;
 
@@ -19,10 +36,44 @@ import joko.task.ToDo;
  * and to load tasks back into memory. It supports {@link ToDo}, {@link Deadline},
  * and {@link Event} task types.
  * </p>
+ * <p>
+ * Saves never overwrite the task file in place: the new contents go to a temporary file next to
+ * it, which then atomically replaces it, so a crash mid-save leaves the previous list intact.
+ * The {@link Durability} level decides when writes are forced onto the disk.
+ * </p>
  */
 public class Storage {
+    /** The format of deadlines in the task file, e.g. {@code 19/09/2025 1800}. */
+    protected static final DateTimeFormatter FILE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy HHmm");
+
     /** The filename where tasks are saved. */
-    private final String filename;
+    protected final String filename;
+
+    /** Whether {@link #loadTasks()} memory-maps the file instead of reading it with a {@link Scanner}. */
+    private boolean isMemoryMapped;
+
+    /** When writes are forced onto the disk. */
+    private Durability durability = Durability.BATCH;
+
+    /** Whether anything has been written since writes were last forced, under {@link Durability#BATCH}. */
+    private boolean hasUnforcedWrites;
+
+    /** The last error met while writing, or {@code null}; written by background writers too. */
+    private volatile String lastError;
+
+    /**
+     * Writes the full contents of a task file.
+     */
+    @FunctionalInterface
+    protected interface SnapshotWriter {
+        /**
+         * Writes the contents to {@code out}, which the caller flushes and closes.
+         *
+         * @param out the stream to write to
+         * @throws IOException if writing fails
+         */
+        void write(OutputStream out) throws IOException;
+    }
 
     /**
      * Constructs a new {@code Storage} instance with the given filename.
@@ -33,10 +84,109 @@ public class Storage {
         this.filename = filename;
     }
 
+    /**
+     * Creates the storage configured for this run.
+     * <p>
+     * Files ending in {@code .bin}, or any file when the {@code joko.storage.format} system
+     * property is {@code binary}, use the {@link BinaryStorage} format; in the latter case the
+     * extension of the file name (not of a directory in its path) is replaced with {@code .bin},
+     * and an existing text file is converted (and kept) the first time. Otherwise the {@code joko.storage} system
+     * property selects the text storage mode: {@code journal} for {@link JournalStorage},
+     * {@code patch} for {@link PatchingStorage}, anything else (or unset) for the plain
+     * rewrite-on-save {@link Storage}. Setting {@code joko.storage.async}
+     * to {@code true} additionally moves writes to a background {@link AsyncStorage},
+     * tuned by {@code joko.storage.maxDelayMs} and {@code joko.storage.maxBatch} (journal and patch
+     * storage already write only each change, so they stay synchronous), and setting
+     * {@code joko.storage.mmap} to {@code true} loads text files through {@link #setMemoryMapped(boolean)}.
+     * {@code joko.storage.durability} sets the {@link Durability} level: {@code none}, {@code batch}
+     * (the default) or {@code every_write}.
+     * </p>
+     *
+     * @param filename the file path to save and load tasks
+     * @return the configured storage instance
+     * @throws UncheckedIOException if an existing text file cannot be converted to binary
+     */
+    public static Storage create(String filename) {
+        String format = System.getProperty("joko.storage.format", "text");
+        String mode = System.getProperty("joko.storage", "plain");
+        Storage storage;
+        if (filename.endsWith(BinaryStorage.EXTENSION)) {
+            storage = new BinaryStorage(filename);
+        } else if (format.equalsIgnoreCase("binary")) {
+            Path path = Paths.get(filename);
+            String name = path.getFileName().toString();
+            int dot = name.lastIndexOf('.');
+            String base = dot > 0 ? name.substring(0, dot) : name;
+            String binaryFilename = path.resolveSibling(base + BinaryStorage.EXTENSION).toString();
+            if (!new File(binaryFilename).exists() && new File(filename).exists()) {
+                int count = StorageConverter.convert(filename, binaryFilename);
+                System.out.println("Converted " + count + " tasks from " + filename + " to " + binaryFilename);
+            }
+            storage = new BinaryStorage(binaryFilename);
+        } else if (mode.equalsIgnoreCase("journal")) {
+            storage = new JournalStorage(filename);
+        } else if (mode.equalsIgnoreCase("patch")) {
+            storage = new PatchingStorage(filename);
+        } else {
+            storage = new Storage(filename);
+        }
+        storage.setMemoryMapped(Boolean.getBoolean("joko.storage.mmap"));
+        String durability = System.getProperty("joko.storage.durability", "batch");
+        try {
+            storage.setDurability(Durability.valueOf(durability.toUpperCase().replace('-', '_')));
+        } catch (IllegalArgumentException e) {
+            System.out.println("Error: unknown durability " + durability + ", using batch");
+        }
+
+        boolean isIncremental = storage instanceof JournalStorage || storage instanceof PatchingStorage;
+        if (Boolean.getBoolean("joko.storage.async") && isIncremental) {
+            System.out.println("Error: asynchronous writes do not apply to " + mode + " storage, "
+                    + "which already writes only each change");
+        } else if (Boolean.getBoolean("joko.storage.async")) {
+            long maxDelayMillis = Long.getLong("joko.storage.maxDelayMs", AsyncStorage.DEFAULT_MAX_DELAY_MILLIS);
+            int maxBatch = Integer.getInteger("joko.storage.maxBatch", AsyncStorage.DEFAULT_MAX_BATCH);
+            storage = new AsyncStorage(storage, maxDelayMillis, maxBatch);
+        }
+        return storage;
+    }
+
+    /**
+     * Sets whether text files are loaded by memory-mapping them.
+     * <p>
+     * The mapped loader parses records straight from the file's bytes, which is several times
+     * faster than the {@link Scanner} path on large files. It is off by default because some
+     * platforms (notably Windows) refuse to truncate a file while a mapping of it is still alive,
+     * which can make the next {@link #saveTasks(List)} fail until the mapping is collected.
+     * </p>
+     *
+     * @param isMemoryMapped {@code true} to memory-map the file on load
+     */
+    public void setMemoryMapped(boolean isMemoryMapped) {
+        this.isMemoryMapped = isMemoryMapped;
+    }
+
+    /**
+     * Sets when writes are forced onto the disk.
+     *
+     * @param durability the durability level; {@link Durability#BATCH} by default
+     */
+    public void setDurability(Durability durability) {
+        this.durability = durability;
+    }
+
+    /**
+     * Returns when writes are forced onto the disk.
+     *
+     * @return the durability level
+     */
+    public Durability getDurability() {
+        return durability;
+    }
+
     /**
      * Saves the given list of tasks to the file.
      * <p>
-     * Each task is written in a specific format depending on its type:
+     * The file is encoded in UTF-8. Each task is written in a specific format depending on its type:
      * <ul>
      *     <li>ToDo: T | doneFlag | description</li>
      *     <li>Deadline: D | doneFlag | description | dd/MM/yyyy HHmm</li>
@@ -46,35 +196,24 @@ public class Storage {
      *
      * @param tasks the list of tasks to save
      */
-    public void saveTasks(ArrayList<Task> tasks) {
-        try (java.io.PrintWriter writer = new java.io.PrintWriter(filename)) {
-            for (Task t : tasks) {
-                if (t instanceof ToDo) {
-                    writer.println("T | " + (t.isDone() ? "1" : "0") + " | " + t.getDesc());
-                } else if (t instanceof Deadline) {
-                    Deadline d = (Deadline) t;
-                    DateTimeFormatter fileFormat = DateTimeFormatter.ofPattern("dd/MM/yyyy HHmm");
-                    writer.println("D | " + (d.isDone() ? "1" : "0") + " | " + d.getDesc() + " | "
-                            + d.getBy().format(fileFormat));
-                } else if (t instanceof Event) {
-                    Event e = (Event) t;
-                    writer.println("E | " + (e.isDone() ? "1" : "0") + " | "
-                            + e.getDesc() + " | " + e.getFrom() + " | " + e.getTo());
-                }
-            }
+    public void saveTasks(List<Task> tasks) {
+        try {
+            writeAtomically(out -> writeTasks(out, tasks));
         } catch (IOException e) {
-            System.out.println("Error saving tasks: " + e.getMessage());
+            reportError("Error saving tasks: " + e.getMessage());
         }
     }
 
     /**
      * Loads tasks from the file.
      * <p>
-     * The file is expected to contain tasks in the format written by {@link #saveTasks(ArrayList)}.
+     * The file is expected to contain tasks in the format written by {@link #saveTasks(List)}.
      * If the file does not exist, an empty list is returned.
      * </p>
      *
      * @return an {@link ArrayList} of tasks loaded from the file
+     * @throws UncheckedIOException if the file cannot be read or a line is not a valid task; a
+     *                              partial list is never returned, so it cannot be saved over the file
      */
     public ArrayList<Task> loadTasks() {
         ArrayList<Task> tasks = new ArrayList<>();
@@ -83,33 +222,323 @@ public class Storage {
             return tasks; // return empty if no file yet
         }
 
-        try (Scanner reader = new Scanner(file)) {
-            while (reader.hasNextLine()) {
-                String[] parts = reader.nextLine().split(" \\| ");
-                String type = parts[0];
-                boolean isDone = parts[1].equals("1");
-                String desc = parts[2];
-
-                Task task = null;
-                if (type.equals("T")) {
-                    task = new ToDo(desc);
-                } else if (type.equals("D")) {
-                    DateTimeFormatter fileFormat = DateTimeFormatter.ofPattern("dd/MM/yyyy HHmm");
-                    LocalDateTime by = LocalDateTime.parse(parts[3], fileFormat);
-                    task = new Deadline(desc, by);
-                } else if (type.equals("E")) {
-                    task = new Event(desc, parts[3], parts[4]);
-                }
+        if (isMemoryMapped) {
+            try {
+                return MappedTaskLoader.load(Paths.get(filename));
+            } catch (IllegalArgumentException e) {
+                throw new UncheckedIOException(new IOException(filename + ": " + e.getMessage(), e));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
 
+        int lineNumber = 0;
+        try (Scanner reader = new Scanner(file, StandardCharsets.UTF_8)) {
+            while (reader.hasNextLine()) {
+                lineNumber++;
+                Task task = parseTask(reader.nextLine());
                 if (task != null) {
-                    task.setDone(isDone);
                     tasks.add(task);
                 }
             }
+        } catch (RuntimeException e) {
+            throw new UncheckedIOException(new IOException(filename + ": Invalid task on line " + lineNumber, e));
         } catch (IOException e) {
-            System.out.println("Error loading tasks: " + e.getMessage());
+            throw new UncheckedIOException(e);
         }
-
         return tasks;
     }
+
+    /**
+     * Persists the addition of a task to the end of the list.
+     * <p>
+     * Called by {@link joko.task.TaskList} after {@code task} has been appended to {@code tasks}.
+     * The default implementation rewrites the whole file.
+     * </p>
+     *
+     * @param tasks the full list of tasks after the change
+     * @param task  the task that was added
+     */
+    public void recordAdd(List<Task> tasks, Task task) {
+        saveTasks(tasks);
+    }
+
+    /**
+     * Persists the deletion of the task that was at {@code index}.
+     * <p>
+     * Called by {@link joko.task.TaskList} after the task has been removed from {@code tasks}.
+     * The default implementation rewrites the whole file.
+     * </p>
+     *
+     * @param tasks the full list of tasks after the change
+     * @param index the 0-based position the task was removed from
+     */
+    public void recordDelete(List<Task> tasks, int index) {
+        saveTasks(tasks);
+    }
+
+    /**
+     * Persists a change in the done status of the task at {@code index}.
+     * <p>
+     * Called by {@link joko.task.TaskList} after the task has been updated.
+     * The default implementation rewrites the whole file.
+     * </p>
+     *
+     * @param tasks the full list of tasks after the change
+     * @param index the 0-based position of the updated task
+     */
+    public void recordMark(List<Task> tasks, int index) {
+        saveTasks(tasks);
+    }
+
+    /**
+     * Persists the deletion of the tasks that were at {@code indices}, all in one write.
+     * <p>
+     * Called by {@link joko.task.TaskList} after a bulk delete has removed every selected task.
+     * The default implementation rewrites the whole file.
+     * </p>
+     *
+     * @param tasks   the full list of tasks after the change
+     * @param indices the 0-based positions, ascending, that the tasks had before the change
+     */
+    public void recordDeletes(List<Task> tasks, int[] indices) {
+        saveTasks(tasks);
+    }
+
+    /**
+     * Persists a change in the done status of the tasks at {@code indices}, all in one write.
+     * <p>
+     * Called by {@link joko.task.TaskList} after a bulk mark or unmark has updated every selected task.
+     * The default implementation rewrites the whole file.
+     * </p>
+     *
+     * @param tasks   the full list of tasks after the change
+     * @param indices the 0-based positions of the updated tasks, ascending
+     */
+    public void recordMarks(List<Task> tasks, int[] indices) {
+        saveTasks(tasks);
+    }
+
+    /**
+     * Ensures that every change recorded so far has been written.
+     * <p>
+     * Writes are synchronous by default, so this only forces them onto the disk if the
+     * durability level is {@link Durability#BATCH}.
+     * </p>
+     */
+    public void flush() {
+        if (!hasUnforcedWrites) {
+            return;
+        }
+        try {
+            forceFiles();
+            hasUnforcedWrites = false;
+        } catch (IOException e) {
+            reportError("Error forcing tasks to disk: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes any outstanding changes and releases resources held by this storage.
+     */
+    public void close() {
+        flush();
+    }
+
+    /**
+     * Returns the last error met while saving since this method was last called, and forgets it.
+     * <p>
+     * Saving never throws or prints, so the front end checks this after a change, or after
+     * flushing or closing the storage, and shows the error to the user.
+     * </p>
+     *
+     * @return the error message, or {@code null} if every write since the last call succeeded
+     */
+    public String takeError() {
+        String error = lastError;
+        lastError = null;
+        return error;
+    }
+
+    /**
+     * Replaces the task file with new contents, so that a crash leaves either the old or the new file.
+     * <p>
+     * The contents are written to {@code <filename>.tmp} and then moved over the task file. Under
+     * {@link Durability#EVERY_WRITE} the contents are forced before the move and the directory
+     * after it; under {@link Durability#BATCH} both are left to the next {@link #flush()}; under
+     * {@link Durability#NONE} nothing is forced. If anything fails,
+     * the temporary file is deleted and the task file is left unchanged.
+     * </p>
+     *
+     * @param snapshot writes the new contents
+     * @throws IOException if the contents cannot be written or moved into place
+     */
+    protected void writeAtomically(SnapshotWriter snapshot) throws IOException {
+        Path target = Paths.get(filename).toAbsolutePath();
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16);
+                snapshot.write(out);
+                out.flush();
+                if (durability == Durability.EVERY_WRITE) {
+                    channel.force(true);
+                }
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        if (durability == Durability.EVERY_WRITE) {
+            forceDirectory(target.getParent());
+        } else if (durability == Durability.BATCH) {
+            hasUnforcedWrites = true;
+        }
+    }
+
+    /**
+     * Handles data just written in place through {@code channel}: forces it to disk if the
+     * durability level is {@link Durability#EVERY_WRITE}, or notes it for the next
+     * {@link #flush()} if it is {@link Durability#BATCH}.
+     *
+     * @param channel the file that was written
+     * @throws IOException if the data cannot be forced
+     */
+    protected void afterWrite(FileChannel channel) throws IOException {
+        if (durability == Durability.EVERY_WRITE) {
+            channel.force(false);
+        } else if (durability == Durability.BATCH) {
+            hasUnforcedWrites = true;
+        }
+    }
+
+    /**
+     * Forces every file this storage writes onto the disk.
+     * <p>
+     * Subclasses that write to other files besides the task file add them here.
+     * </p>
+     *
+     * @throws IOException if a file cannot be forced
+     */
+    protected void forceFiles() throws IOException {
+        Path target = Paths.get(filename).toAbsolutePath();
+        force(target);
+        forceDirectory(target.getParent());
+    }
+
+    /**
+     * Forces a file's contents onto the disk, if it exists.
+     *
+     * @param path the file to force
+     * @throws IOException if the file cannot be forced
+     */
+    protected static void force(Path path) throws IOException {
+        if (Files.exists(path)) {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+        }
+    }
+
+    /**
+     * Keeps an error met while writing for {@link #takeError()}, replacing any earlier one.
+     *
+     * @param message the message to show
+     */
+    protected void reportError(String message) {
+        lastError = message;
+    }
+
+    /**
+     * Writes the tasks in the format of {@link #saveTasks(List)}, one line each.
+     *
+     * @param out   the stream to write to, which is left open
+     * @param tasks the tasks to write
+     * @throws IOException if the stream cannot be written
+     */
+    protected static void writeTasks(OutputStream out, List<Task> tasks) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        for (Task t : tasks) {
+            String line = formatTask(t);
+            if (line != null) {
+                writer.write(line);
+                writer.write(System.lineSeparator());
+            }
+        }
+        writer.flush();
+    }
+
+    /**
+     * Formats a task as a single line of the task file.
+     *
+     * @param t the task to format
+     * @return the formatted line, or {@code null} if the task type is not supported
+     */
+    protected static String formatTask(Task t) {
+        if (t instanceof ToDo) {
+            return "T | " + (t.isDone() ? "1" : "0") + " | " + t.getDesc();
+        } else if (t instanceof Deadline) {
+            Deadline d = (Deadline) t;
+            return "D | " + (d.isDone() ? "1" : "0") + " | " + d.getDesc() + " | "
+                    + d.getBy().format(FILE_FORMAT);
+        } else if (t instanceof Event) {
+            Event e = (Event) t;
+            return "E | " + (e.isDone() ? "1" : "0") + " | "
+                    + e.getDesc() + " | " + e.getFrom() + " | " + e.getTo();
+        }
+        return null;
+    }
+
+    /**
+     * Parses a single line of the task file back into a task.
+     *
+     * @param line the line to parse
+     * @return the parsed task, or {@code null} if the type is not recognised
+     */
+    protected static Task parseTask(String line) {
+        String[] parts = line.split(" \\| ");
+        String type = parts[0];
+        boolean isDone = parts[1].equals("1");
+        StringPool pool = StringPool.shared();
+        String desc = pool.intern(parts[2]);
+
+        Task task = null;
+        if (type.equals("T")) {
+            task = new ToDo(desc);
+        } else if (type.equals("D")) {
+            LocalDateTime by = LocalDateTime.parse(parts[3], FILE_FORMAT);
+            task = new Deadline(desc, by);
+        } else if (type.equals("E")) {
+            task = new Event(desc, pool.intern(parts[3]), pool.intern(parts[4]));
+        }
+
+        if (task != null) {
+            task.setDone(isDone);
+        }
+        return task;
+    }
+
+    /**
+     * Forces a directory's entries onto the disk, so a file just created or renamed in it stays.
+     * <p>
+     * Some platforms, notably Windows, cannot open a directory for this; there the rename is
+     * left to the file system.
+     * </p>
+     */
+    private static void forceDirectory(Path directory) {
+        if (directory == null) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Not supported on this platform
+        }
+    }
 }
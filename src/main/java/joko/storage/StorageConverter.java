@@ -0,0 +1,64 @@
+package joko.storage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+
+import joko.task.Task;
+
+/**
+ * Converts task files between the text and binary storage formats.
+ * <p>
+ * The format of each file is chosen from its extension: files ending in {@code .bin} use
+ * {@link BinaryStorage}, all others the text format of {@link Storage}. Both formats hold
+ * exactly the same information, so converting back and forth is lossless.
+ * </p>
+ */
+public class StorageConverter {
+
+    /**
+     * Converts a task file from one format to another.
+     * <p>
+     * Usage: {@code StorageConverter <source> <target>}, e.g. {@code task.txt task.bin}.
+     * </p>
+     *
+     * @param args the source and target file paths
+     */
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.out.println("Usage: StorageConverter <source> <target>");
+            return;
+        }
+        try {
+            int count = convert(args[0], args[1]);
+            System.out.println("Converted " + count + " tasks from " + args[0] + " to " + args[1]);
+        } catch (UncheckedIOException e) {
+            System.out.println("Error converting tasks: " + e.getCause().getMessage());
+        }
+    }
+
+    /**
+     * Copies all tasks from the source file to the target file, overwriting the target.
+     *
+     * @param source the file path to read tasks from
+     * @param target the file path to write tasks to
+     * @return the number of tasks converted
+     * @throws UncheckedIOException if the source cannot be read or the target cannot be written
+     */
+    public static int convert(String source, String target) {
+        ArrayList<Task> tasks = forFile(source).loadTasks();
+        Storage storage = forFile(target);
+        storage.saveTasks(tasks);
+        String error = storage.takeError();
+        if (error != null) {
+            throw new UncheckedIOException(new IOException(target + ": " + error));
+        }
+        return tasks.size();
+    }
+
+    private static Storage forFile(String filename) {
+        return filename.endsWith(BinaryStorage.EXTENSION)
+                ? new BinaryStorage(filename)
+                : new Storage(filename);
+    }
+}
@@ -0,0 +1,347 @@
+package joko.task;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.RandomAccess;
+
+/**
+ * A compact, column-oriented list of tasks for very large task lists.
+ * <p>
+ * Instead of one object per task, each task is a row across a few primitive arrays:
+ * <ul>
+ *     <li>{@code types}: 'T', 'D' or 'E' (1 byte)</li>
+ *     <li>{@code done}: the completion flag (1 bit)</li>
+ *     <li>{@code values}: a deadline as UTC epoch seconds, or an event's from and to lengths
+ *     packed into the high and low 32 bits (8 bytes)</li>
+ *     <li>{@code offsets} and {@code descLengths}: where the task's text starts in the shared
+ *     UTF-8 {@code arena} and how long its description is (8 bytes)</li>
+ *     <li>{@code ids}: the task's id, given when it is added and never reused (8 bytes)</li>
+ * </ul>
+ * An event's from and to text follows its description in the arena. That is about 25 bytes
+ * plus the text per task, against well over 100 for the object form.
+ * </p>
+ * <p>
+ * {@link #get(int)} materializes a fresh {@link ToDo}, {@link Deadline} or {@link Event} on every
+ * call, carrying the id of its row. Changing that object does not change the list; write it back
+ * with {@link #set(int, Task)}, or {@link #setDone(int, boolean)} for just the completion status.
+ * Deleting a task shifts the later rows, and the arena is compacted once more than half of it
+ * belongs to deleted tasks. Ids only ever grow down the rows, so {@link #indexOfId(long)} is a
+ * binary search.
+ * </p>
+ */
+class ColumnarTaskList extends AbstractList<Task> implements RandomAccess {
+    private byte[] types;
+    private final BitSet done = new BitSet();
+    private long[] values;
+    private int[] offsets;
+    private int[] descLengths;
+    private long[] ids;
+
+    /** The UTF-8 text of every task. */
+    private byte[] arena;
+
+    /** The number of bytes of {@code arena} in use. */
+    private int arenaSize;
+
+    /** The number of bytes of {@code arena} that belong to deleted or replaced tasks. */
+    private int garbage;
+
+    /** The number of tasks. */
+    private int size;
+
+    /** The id given to the next task added. */
+    private long nextId = 1;
+
+    /**
+     * Constructs an empty {@code ColumnarTaskList} with room for {@code capacity} tasks.
+     *
+     * @param capacity the initial capacity
+     */
+    ColumnarTaskList(int capacity) {
+        int rows = Math.max(capacity, 16);
+        types = new byte[rows];
+        values = new long[rows];
+        offsets = new int[rows];
+        descLengths = new int[rows];
+        ids = new long[rows];
+        arena = new byte[rows * 16];
+    }
+
+    @Override
+    public Task get(int index) {
+        checkIndex(index);
+        int offset = offsets[index];
+        int descLength = descLengths[index];
+        String desc = decode(offset, descLength);
+
+        Task task;
+        if (types[index] == 'T') {
+            task = new ToDo(desc);
+        } else if (types[index] == 'D') {
+            task = new Deadline(desc, LocalDateTime.ofEpochSecond(values[index], 0, ZoneOffset.UTC));
+        } else {
+            int fromLength = (int) (values[index] >>> 32);
+            int toLength = (int) values[index];
+            task = new Event(desc, decode(offset + descLength, fromLength),
+                    decode(offset + descLength + fromLength, toLength));
+        }
+        task.setDone(done.get(index));
+        task.setId(ids[index]);
+        return task;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Appends a task and gives it the next id, which is also set on {@code task}.
+     *
+     * @param task the task to add
+     * @return {@code true}
+     * @throws IllegalArgumentException if the task is not a to-do, deadline or event
+     */
+    @Override
+    public boolean add(Task task) {
+        Row row = new Row(task);
+        if (size == types.length) {
+            int rows = size * 2;
+            types = Arrays.copyOf(types, rows);
+            values = Arrays.copyOf(values, rows);
+            offsets = Arrays.copyOf(offsets, rows);
+            descLengths = Arrays.copyOf(descLengths, rows);
+            ids = Arrays.copyOf(ids, rows);
+        }
+        size++;
+        write(size - 1, row, task.isDone());
+        ids[size - 1] = nextId;
+        task.setId(nextId++);
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Replaces the task at {@code index}, which keeps the id of that position. If only the
+     * completion status differs, just the done bit is written.
+     *
+     * @param index the position of the task to replace
+     * @param task  the new task
+     * @return the task previously at {@code index}, materialized before it is overwritten
+     */
+    @Override
+    public Task set(int index, Task task) {
+        Task previous = get(index);
+        Row row = new Row(task);
+        if (matches(index, row)) {
+            done.set(index, task.isDone());
+        } else {
+            garbage += rowLength(index);
+            write(index, row, task.isDone());
+            compactIfWasteful();
+        }
+        return previous;
+    }
+
+    /**
+     * Sets the completion status of the task at {@code index} without materializing it.
+     *
+     * @param index  the position of the task
+     * @param isDone the new completion status
+     */
+    void setDone(int index, boolean isDone) {
+        checkIndex(index);
+        done.set(index, isDone);
+    }
+
+    /**
+     * Returns the position of the task with the given id.
+     *
+     * @param id the task id
+     * @return the position, or -1 if no task in the list has that id
+     */
+    int indexOfId(long id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        return index < 0 ? -1 : index;
+    }
+
+    @Override
+    public Task remove(int index) {
+        Task removed = get(index);
+        removeAll(new int[] {index});
+        return removed;
+    }
+
+    /**
+     * Removes the tasks at the given positions in one pass over the columns.
+     *
+     * @param indices the positions to remove, ascending and distinct
+     */
+    void removeAll(int[] indices) {
+        if (indices.length == 0) {
+            return;
+        }
+        int next = 0;
+        int kept = indices[0];
+        for (int row = indices[0]; row < size; row++) {
+            if (next < indices.length && indices[next] == row) {
+                garbage += rowLength(row);
+                next++;
+                continue;
+            }
+            types[kept] = types[row];
+            values[kept] = values[row];
+            offsets[kept] = offsets[row];
+            descLengths[kept] = descLengths[row];
+            ids[kept] = ids[row];
+            done.set(kept, done.get(row));
+            kept++;
+        }
+        done.clear(kept, size);
+        size = kept;
+        modCount++;
+        compactIfWasteful();
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        arenaSize = 0;
+        garbage = 0;
+        done.clear();
+        modCount++;
+    }
+
+    /**
+     * Returns the position of the first task equal to {@code o}, comparing the columns directly
+     * instead of materializing each task.
+     *
+     * @param o the task to look for
+     * @return the position, or -1 if there is no equal task
+     */
+    @Override
+    public int indexOf(Object o) {
+        if (!isSupported(o)) {
+            return -1;
+        }
+        Row row = new Row((Task) o);
+        for (int i = 0; i < size; i++) {
+            if (matches(i, row)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    /**
+     * Returns whether the given object can be stored in a columnar list.
+     *
+     * @param o the object to check
+     * @return {@code true} for a {@link ToDo}, {@link Deadline} or {@link Event}
+     */
+    static boolean isSupported(Object o) {
+        return o instanceof ToDo || o instanceof Deadline || o instanceof Event;
+    }
+
+    /** A task encoded into column values, used for writing and comparing rows. */
+    private static class Row {
+        private final byte type;
+        private final long value;
+        private final byte[] desc;
+        private final byte[] extra;
+
+        private Row(Task task) {
+            desc = task.getDesc().getBytes(StandardCharsets.UTF_8);
+            if (task instanceof ToDo) {
+                type = 'T';
+                value = 0;
+                extra = new byte[0];
+            } else if (task instanceof Deadline) {
+                type = 'D';
+                value = ((Deadline) task).getBy().toEpochSecond(ZoneOffset.UTC);
+                extra = new byte[0];
+            } else if (task instanceof Event) {
+                byte[] from = ((Event) task).getFrom().getBytes(StandardCharsets.UTF_8);
+                byte[] to = ((Event) task).getTo().getBytes(StandardCharsets.UTF_8);
+                type = 'E';
+                value = (long) from.length << 32 | to.length;
+                extra = Arrays.copyOf(from, from.length + to.length);
+                System.arraycopy(to, 0, extra, from.length, to.length);
+            } else {
+                throw new IllegalArgumentException("Unsupported task type: " + task.getClass().getSimpleName());
+            }
+        }
+    }
+
+    private void write(int index, Row row, boolean isDone) {
+        int length = row.desc.length + row.extra.length;
+        if (arenaSize + length > arena.length) {
+            arena = Arrays.copyOf(arena, Math.max(arena.length * 2, arenaSize + length));
+        }
+        System.arraycopy(row.desc, 0, arena, arenaSize, row.desc.length);
+        System.arraycopy(row.extra, 0, arena, arenaSize + row.desc.length, row.extra.length);
+
+        types[index] = row.type;
+        values[index] = row.value;
+        offsets[index] = arenaSize;
+        descLengths[index] = row.desc.length;
+        done.set(index, isDone);
+        arenaSize += length;
+    }
+
+    private boolean matches(int index, Row row) {
+        if (types[index] != row.type || values[index] != row.value || descLengths[index] != row.desc.length) {
+            return false;
+        }
+        int offset = offsets[index];
+        int descEnd = offset + row.desc.length;
+        return Arrays.equals(arena, offset, descEnd, row.desc, 0, row.desc.length)
+                && Arrays.equals(arena, descEnd, descEnd + row.extra.length, row.extra, 0, row.extra.length);
+    }
+
+    private int rowLength(int index) {
+        if (types[index] != 'E') {
+            return descLengths[index];
+        }
+        return descLengths[index] + (int) (values[index] >>> 32) + (int) values[index];
+    }
+
+    /**
+     * Rewrites the arena without the text of deleted tasks once that text takes up more than half of it.
+     */
+    private void compactIfWasteful() {
+        if (garbage <= arenaSize / 2) {
+            return;
+        }
+        byte[] compacted = new byte[Math.max(arenaSize - garbage, 16)];
+        int position = 0;
+        for (int i = 0; i < size; i++) {
+            int length = rowLength(i);
+            System.arraycopy(arena, offsets[i], compacted, position, length);
+            offsets[i] = position;
+            position += length;
+        }
+        arena = compacted;
+        arenaSize = position;
+        garbage = 0;
+    }
+
+    private String decode(int offset, int length) {
+        return new String(arena, offset, length, StandardCharsets.UTF_8);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package joko.task;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Locale;
+import java.util.Objects;
 
 /**
  * Represents a task that has a specific deadline.
@@ -12,6 +13,10 @@ import java.util.Locale;
  * </p>
  */
 public class Deadline extends Task {
+    /** The format used to display deadlines and event times, e.g. {@code Sep 19 2025 18:00}. */
+    static final DateTimeFormatter OUTPUT_FORMAT =
+            DateTimeFormatter.ofPattern("MMM dd yyyy HH:mm", Locale.ENGLISH);
+
     /** The date and time by which the task must be completed. */
     protected LocalDateTime by;
 
@@ -53,6 +58,18 @@ public class Deadline extends Task {
         Deadline other = (Deadline) obj;
         return desc.equals(other.desc) && by.equals(other.by);
     }
+
+    /**
+     * Returns a hash code consistent with {@link #equals(Object)}, derived from the
+     * description and deadline.
+     *
+     * @return the hash code of this Deadline
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(desc, by);
+    }
+
     /**
      * Returns a string representation of the deadline task, including its type,
      * completion status, description, and formatted deadline.
@@ -60,9 +77,8 @@ public class Deadline extends Task {
      * @return a formatted string representing the deadline task
      */
     @Override
-    public String toString() {
-        DateTimeFormatter outputFormat = DateTimeFormatter.ofPattern("MMM dd yyyy HH:mm", Locale.ENGLISH);
-        return "[D]" + super.toString()
-                + "(by: " + by.format(outputFormat) + ") ";
+    protected String render() {
+        return "[D]" + super.render()
+                + "(by: " + by.format(OUTPUT_FORMAT) + ") ";
     }
 }
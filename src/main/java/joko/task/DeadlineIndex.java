@@ -0,0 +1,89 @@
+package joko.task;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * A time-ordered index over the {@link Deadline} tasks of a list.
+ * <p>
+ * Deadlines are kept in a {@link TreeMap} keyed by their due time, so a range query finds its
+ * first match in O(log n) and then walks only the k matching entries. Deadlines due at the same
+ * time are kept in the order they were added.
+ * </p>
+ */
+class DeadlineIndex {
+    /** The deadlines due at each time. */
+    private final TreeMap<LocalDateTime, List<Deadline>> byTime = new TreeMap<>();
+
+    /**
+     * Adds a task to the index if it is a deadline.
+     *
+     * @param task the task to index
+     */
+    void add(Task task) {
+        if (task instanceof Deadline) {
+            Deadline deadline = (Deadline) task;
+            byTime.computeIfAbsent(deadline.getBy(), k -> new ArrayList<>(1)).add(deadline);
+        }
+    }
+
+    /**
+     * Removes a task from the index if it is a deadline.
+     *
+     * @param task the task to remove
+     */
+    void remove(Task task) {
+        if (!(task instanceof Deadline)) {
+            return;
+        }
+        LocalDateTime by = ((Deadline) task).getBy();
+        List<Deadline> deadlines = byTime.get(by);
+        if (deadlines == null) {
+            return;
+        }
+        for (int i = 0; i < deadlines.size(); i++) {
+            if (deadlines.get(i) == task) {
+                deadlines.remove(i);
+                break;
+            }
+        }
+        if (deadlines.isEmpty()) {
+            byTime.remove(by);
+        }
+    }
+
+    /**
+     * Removes every task from the index.
+     */
+    void clear() {
+        byTime.clear();
+    }
+
+    /**
+     * Returns the deadlines due within the given bounds, earliest first.
+     *
+     * @param from          the lower bound, or {@code null} for none
+     * @param fromInclusive whether a deadline due exactly at {@code from} matches
+     * @param to            the upper bound, or {@code null} for none
+     * @param toInclusive   whether a deadline due exactly at {@code to} matches
+     * @return the matching deadlines in order of due time
+     */
+    ArrayList<Task> find(LocalDateTime from, boolean fromInclusive, LocalDateTime to, boolean toInclusive) {
+        NavigableMap<LocalDateTime, List<Deadline>> range = byTime;
+        if (from != null) {
+            range = range.tailMap(from, fromInclusive);
+        }
+        if (to != null) {
+            range = range.headMap(to, toInclusive);
+        }
+
+        ArrayList<Task> results = new ArrayList<>();
+        for (List<Deadline> deadlines : range.values()) {
+            results.addAll(deadlines);
+        }
+        return results;
+    }
+}
@@ -1,10 +1,18 @@
 package joko.task;
 
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import joko.parser.Parser;
+
 /**
  * Represents an event task that occurs within a specific time period.
  * <p>
  * Extends the {@link Task} class and adds {@code from} and {@code to} fields
- * to store the start and end times of the event.
+ * to store the start and end times of the event. When both are date-times in
+ * {@link Parser#INPUT_FORMAT} and the event does not end before it starts, the event is
+ * <em>timed</em>: its parsed {@link #getStart() start} and {@link #getEnd() end}
+ * are available for schedule queries. Any other text is kept as-is.
  * </p>
  */
 public class Event extends Task {
@@ -14,8 +22,18 @@ public class Event extends Task {
     /** The end time of the event. */
     protected String to;
 
+    /** The parsed start time, or {@code null} if the event is not timed. */
+    private final LocalDateTime start;
+
+    /** The parsed end time, or {@code null} if the event is not timed. */
+    private final LocalDateTime end;
+
     /**
      * Constructs a new {@code Event} task with the given description, start time, and end time.
+     * <p>
+     * The event is timed if both times can be parsed with {@link Parser#INPUT_FORMAT} and the end is
+     * not before the start.
+     * </p>
      *
      * @param desc the description of the event
      * @param from the start time of the event
@@ -25,6 +43,27 @@ public class Event extends Task {
         super(desc);
         this.from = from;
         this.to = to;
+        LocalDateTime parsedStart = Parser.parseTimeOrNull(from);
+        LocalDateTime parsedEnd = parsedStart == null ? null : Parser.parseTimeOrNull(to);
+        boolean isTimed = parsedEnd != null && !parsedEnd.isBefore(parsedStart);
+        this.start = isTimed ? parsedStart : null;
+        this.end = isTimed ? parsedEnd : null;
+    }
+
+    /**
+     * Constructs a new timed {@code Event} task.
+     *
+     * @param desc  the description of the event
+     * @param start the start date and time of the event
+     * @param end   the end date and time of the event, not before {@code start}
+     */
+    public Event(String desc, LocalDateTime start, LocalDateTime end) {
+        super(desc);
+        assert !end.isBefore(start) : "Event must not end before it starts";
+        this.from = start.format(Parser.INPUT_FORMAT);
+        this.to = end.format(Parser.INPUT_FORMAT);
+        this.start = start;
+        this.end = end;
     }
 
     /**
@@ -45,6 +84,33 @@ public class Event extends Task {
         return to;
     }
 
+    /**
+     * Returns whether the event has parsed start and end times.
+     *
+     * @return {@code true} if {@link #getStart()} and {@link #getEnd()} are available
+     */
+    public boolean isTimed() {
+        return start != null;
+    }
+
+    /**
+     * Returns the parsed start time of the event.
+     *
+     * @return the start time, or {@code null} if the event is not timed
+     */
+    public LocalDateTime getStart() {
+        return start;
+    }
+
+    /**
+     * Returns the parsed end time of the event.
+     *
+     * @return the end time, or {@code null} if the event is not timed
+     */
+    public LocalDateTime getEnd() {
+        return end;
+    }
+
     /**
      * Checks if this Event is equal to another object.
      * Two Events are equal if they have the same description, start time, and end time.
@@ -63,6 +129,18 @@ public class Event extends Task {
         Event other = (Event) obj;
         return desc.equals(other.desc) && from.equals(other.from) && to.equals(other.to);
     }
+
+    /**
+     * Returns a hash code consistent with {@link #equals(Object)}, derived from the
+     * description, start time and end time.
+     *
+     * @return the hash code of this Event
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(desc, from, to);
+    }
+
     /**
      * Returns a string representation of the event task, including its type,
      * completion status, description, and start/end times.
@@ -70,8 +148,13 @@ public class Event extends Task {
      * @return a formatted string representing the event task
      */
     @Override
-    public String toString() {
-        return "[E]" + super.toString()
+    protected String render() {
+        if (isTimed()) {
+            return "[E]" + super.render()
+                    + "(from: " + start.format(Deadline.OUTPUT_FORMAT)
+                    + " to: " + end.format(Deadline.OUTPUT_FORMAT) + ")";
+        }
+        return "[E]" + super.render()
                 + "(from: " + from
                 + " to: " + to + ")";
     }
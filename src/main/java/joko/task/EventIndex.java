@@ -0,0 +1,255 @@
+package joko.task;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+/**
+ * An interval tree over the timed {@link Event} tasks of a list.
+ * <p>
+ * Events are kept in an AVL tree ordered by start time (then order of insertion), and every node also
+ * records the latest end time in its subtree. A query for the events overlapping a time range
+ * skips any subtree whose latest end is not after the range's start and any right subtree whose
+ * root starts at or after the range's end, so it runs in O(log n + k) for k results. Add and
+ * remove are O(log n). Events are treated as half-open intervals, so one ending exactly when
+ * another starts does not overlap it.
+ * </p>
+ * <p>
+ * Nodes are found by the identity of their event rather than by task id, since the same task
+ * may be given a new id when it is added to another list.
+ * </p>
+ */
+class EventIndex {
+    /** A node of the tree, holding one event. */
+    private static class Node {
+        private final Event event;
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+        private final long sequence;
+        private LocalDateTime maxEnd;
+        private int height = 1;
+        private Node left;
+        private Node right;
+
+        private Node(Event event, long sequence) {
+            this.event = event;
+            this.start = event.getStart();
+            this.end = event.getEnd();
+            this.sequence = sequence;
+            this.maxEnd = end;
+        }
+    }
+
+    /** The root of the tree, or {@code null} if it is empty. */
+    private Node root;
+
+    /** The node of each indexed event. */
+    private final IdentityHashMap<Event, Node> nodes = new IdentityHashMap<>();
+
+    /** The sequence number of the next node, which orders events that start together. */
+    private long nextSequence;
+
+    /**
+     * Adds a task to the index if it is a timed event.
+     *
+     * @param task the task to index
+     */
+    void add(Task task) {
+        if (task instanceof Event && ((Event) task).isTimed()) {
+            Node node = new Node((Event) task, nextSequence++);
+            Node old = nodes.put(node.event, node);
+            assert old == null : "An event must not be indexed twice";
+            root = insert(root, node);
+        }
+    }
+
+    /**
+     * Removes a task from the index if it is a timed event.
+     *
+     * @param task the task to remove
+     */
+    void remove(Task task) {
+        Node node = task instanceof Event ? nodes.remove(task) : null;
+        if (node != null) {
+            root = delete(root, node.start, node.sequence);
+        }
+    }
+
+    /**
+     * Removes every event from the index.
+     */
+    void clear() {
+        root = null;
+        nodes.clear();
+    }
+
+    /**
+     * Returns the events that overlap the range [from, to), in order of start time.
+     *
+     * @param from the start of the range
+     * @param to   the end of the range
+     * @return the overlapping events
+     */
+    ArrayList<Event> findOverlapping(LocalDateTime from, LocalDateTime to) {
+        ArrayList<Event> results = new ArrayList<>();
+        collect(root, from, to, results);
+        return results;
+    }
+
+    /**
+     * Returns every pair of overlapping events, each pair once with the earlier-starting event first.
+     *
+     * @return the conflicting pairs, ordered by the start time of their first event
+     */
+    List<Event[]> findConflicts() {
+        List<Event[]> conflicts = new ArrayList<>();
+        ArrayList<Node> ordered = new ArrayList<>();
+        inOrder(root, ordered);
+        for (Node node : ordered) {
+            for (Event other : findOverlapping(node.start, node.end)) {
+                if (compare(other.getStart(), nodes.get(other).sequence, node) > 0) {
+                    conflicts.add(new Event[] {node.event, other});
+                }
+            }
+        }
+        return conflicts;
+    }
+
+    /**
+     * Returns the gaps in [from, to) not covered by any event, earliest first.
+     *
+     * @param from the start of the range
+     * @param to   the end of the range
+     * @return the free time slots
+     */
+    List<TimeSlot> findFreeSlots(LocalDateTime from, LocalDateTime to) {
+        List<TimeSlot> slots = new ArrayList<>();
+        LocalDateTime cursor = from;
+        for (Event event : findOverlapping(from, to)) {
+            if (event.getStart().isAfter(cursor)) {
+                slots.add(new TimeSlot(cursor, event.getStart()));
+            }
+            if (event.getEnd().isAfter(cursor)) {
+                cursor = event.getEnd();
+            }
+        }
+        if (cursor.isBefore(to)) {
+            slots.add(new TimeSlot(cursor, to));
+        }
+        return slots;
+    }
+
+    private static void collect(Node node, LocalDateTime from, LocalDateTime to, List<Event> results) {
+        if (node == null || !node.maxEnd.isAfter(from)) {
+            return;
+        }
+        collect(node.left, from, to, results);
+        if (node.start.isBefore(to)) {
+            if (node.end.isAfter(from)) {
+                results.add(node.event);
+            }
+            collect(node.right, from, to, results);
+        }
+    }
+
+    private static void inOrder(Node node, List<Node> nodes) {
+        if (node != null) {
+            inOrder(node.left, nodes);
+            nodes.add(node);
+            inOrder(node.right, nodes);
+        }
+    }
+
+    private static int compare(LocalDateTime start, long sequence, Node node) {
+        int c = start.compareTo(node.start);
+        return c != 0 ? c : Long.compare(sequence, node.sequence);
+    }
+
+    private static Node insert(Node node, Node added) {
+        if (node == null) {
+            return added;
+        }
+        if (compare(added.start, added.sequence, node) < 0) {
+            node.left = insert(node.left, added);
+        } else {
+            node.right = insert(node.right, added);
+        }
+        return rebalance(node);
+    }
+
+    private static Node delete(Node node, LocalDateTime start, long sequence) {
+        if (node == null) {
+            return null;
+        }
+        int c = compare(start, sequence, node);
+        if (c < 0) {
+            node.left = delete(node.left, start, sequence);
+        } else if (c > 0) {
+            node.right = delete(node.right, start, sequence);
+        } else if (node.left == null || node.right == null) {
+            return node.left != null ? node.left : node.right;
+        } else {
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor.right = delete(node.right, successor.start, successor.sequence);
+            successor.left = node.left;
+            return rebalance(successor);
+        }
+        return rebalance(node);
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static void update(Node node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        LocalDateTime maxEnd = node.end;
+        if (node.left != null && node.left.maxEnd.isAfter(maxEnd)) {
+            maxEnd = node.left.maxEnd;
+        }
+        if (node.right != null && node.right.maxEnd.isAfter(maxEnd)) {
+            maxEnd = node.right.maxEnd;
+        }
+        node.maxEnd = maxEnd;
+    }
+
+    private static Node rebalance(Node node) {
+        update(node);
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+}
@@ -0,0 +1,137 @@
+package joko.task;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * An inverted index from description keywords to the tasks that contain them.
+ * <p>
+ * Descriptions are split into lowercase tokens of letters and digits. Each token maps to the set
+ * of tasks whose description contains it, so a lookup only touches the tasks that match instead
+ * of scanning the whole list. Tasks are tracked by identity, and every task remembers the order in
+ * which it was indexed so results come back in list order.
+ * </p>
+ */
+class KeywordIndex {
+    /** The tasks containing each token. */
+    private final HashMap<String, Set<Task>> postings = new HashMap<>();
+
+    /** The insertion sequence number of every indexed task. */
+    private final IdentityHashMap<Task, Long> sequence = new IdentityHashMap<>();
+
+    /** The sequence number given to the next indexed task. */
+    private long nextSequence;
+
+    /**
+     * Adds a task to the index. Tasks must be added in list order.
+     *
+     * @param task the task to index
+     */
+    void add(Task task) {
+        sequence.put(task, nextSequence++);
+        for (String token : tokenize(task.getDesc())) {
+            postings.computeIfAbsent(token, k -> Collections.newSetFromMap(new IdentityHashMap<>())).add(task);
+        }
+    }
+
+    /**
+     * Removes a task from the index.
+     *
+     * @param task the task to remove
+     */
+    void remove(Task task) {
+        if (sequence.remove(task) == null) {
+            return;
+        }
+        for (String token : tokenize(task.getDesc())) {
+            Set<Task> tasks = postings.get(token);
+            if (tasks != null) {
+                tasks.remove(task);
+                if (tasks.isEmpty()) {
+                    postings.remove(token);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes every task from the index.
+     */
+    void clear() {
+        postings.clear();
+        sequence.clear();
+        nextSequence = 0;
+    }
+
+    /**
+     * Returns the tasks whose descriptions contain every keyword in the query.
+     *
+     * @param query one or more keywords separated by spaces or punctuation
+     * @return the matching tasks in list order, or {@code null} if the query has no keywords
+     */
+    ArrayList<Task> find(String query) {
+        List<String> tokens = tokenize(query);
+        if (tokens.isEmpty()) {
+            return null;
+        }
+
+        Set<Task> smallest = null;
+        for (String token : tokens) {
+            Set<Task> tasks = postings.get(token);
+            if (tasks == null) {
+                return new ArrayList<>();
+            }
+            if (smallest == null || tasks.size() < smallest.size()) {
+                smallest = tasks;
+            }
+        }
+
+        ArrayList<Task> results = new ArrayList<>();
+        for (Task task : smallest) {
+            if (containsAll(task, tokens)) {
+                results.add(task);
+            }
+        }
+        results.sort(Comparator.comparing(sequence::get));
+        return results;
+    }
+
+    private boolean containsAll(Task task, List<String> tokens) {
+        for (String token : tokens) {
+            if (!postings.get(token).contains(task)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Splits text into distinct lowercase tokens made of letters and digits.
+     *
+     * @param text the text to split
+     * @return the distinct tokens in order of first appearance
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isWordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (isWordChar && start < 0) {
+                start = i;
+            } else if (!isWordChar && start >= 0) {
+                String token = text.substring(start, i).toLowerCase(Locale.ROOT);
+                if (!tokens.contains(token)) {
+                    tokens.add(token);
+                }
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,120 @@
+package joko.task;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A bounded pool that lets equal task strings share one instance.
+ * <p>
+ * Task files repeat the same event times ("Monday", "8pm") and recurring descriptions across many
+ * lines, but every load creates a new {@link String} for each field. Passing those strings through
+ * {@link #intern(String)} returns an earlier equal instance where there is one, so the duplicate
+ * can be collected. {@link #intern(byte[], int, int)} goes further for ASCII text and returns the
+ * pooled string without decoding a new one at all.
+ * </p>
+ * <p>
+ * The pool is a fixed-size hash table with one string per slot, and a new string simply replaces
+ * whatever shares its slot, so it never grows and needs no eviction. Unlike {@link String#intern()},
+ * nothing is kept alive beyond the table itself. Reads and writes of the slots are unsynchronized,
+ * which is safe because strings are immutable: a racing thread may miss a match, never get a
+ * wrong one.
+ * </p>
+ */
+public final class StringPool {
+    /** The pool shared by the loaders and the parser; setting {@code joko.intern} to {@code false} disables it. */
+    private static final StringPool SHARED =
+            new StringPool(System.getProperty("joko.intern", "true").equalsIgnoreCase("false") ? 0 : 1 << 16);
+
+    /** The pooled strings, indexed by hash; empty if the pool is disabled. */
+    private final String[] table;
+
+    /**
+     * Constructs a new {@code StringPool}.
+     *
+     * @param capacity the number of strings the pool can hold, rounded up to a power of two;
+     *                 0 disables pooling
+     */
+    public StringPool(int capacity) {
+        assert capacity >= 0 && capacity <= 1 << 30 : "Capacity must be between 0 and 2^30";
+        table = new String[capacity == 0 ? 0 : Integer.highestOneBit(Math.max(capacity * 2 - 1, 1))];
+    }
+
+    /**
+     * Returns the pool shared by the task loaders and the command parser.
+     *
+     * @return the shared pool
+     */
+    public static StringPool shared() {
+        return SHARED;
+    }
+
+    /**
+     * Returns a pooled string equal to {@code s}, adding {@code s} to the pool if there is none.
+     *
+     * @param s the string to intern
+     * @return an instance equal to {@code s}
+     */
+    public String intern(String s) {
+        if (table.length == 0) {
+            return s;
+        }
+        int slot = slot(s.hashCode());
+        String pooled = table[slot];
+        if (s.equals(pooled)) {
+            return pooled;
+        }
+        table[slot] = s;
+        return s;
+    }
+
+    /**
+     * Returns a pooled string for the given UTF-8 bytes, decoding and adding one if there is none.
+     * <p>
+     * ASCII text is hashed and compared straight from the bytes, so a pooled string is returned
+     * without allocating anything.
+     * </p>
+     *
+     * @param bytes  the array holding the text
+     * @param offset the position of the first byte
+     * @param length the number of bytes
+     * @return the decoded string
+     */
+    public String intern(byte[] bytes, int offset, int length) {
+        if (table.length == 0) {
+            return new String(bytes, offset, length, StandardCharsets.UTF_8);
+        }
+        int hash = 0;
+        for (int i = offset; i < offset + length; i++) {
+            if (bytes[i] < 0) {
+                return intern(new String(bytes, offset, length, StandardCharsets.UTF_8));
+            }
+            hash = 31 * hash + bytes[i];
+        }
+
+        // For ASCII, String.hashCode() is the same polynomial over the bytes, so both intern
+        // methods use the same slot for the same text.
+        int slot = slot(hash);
+        String pooled = table[slot];
+        if (pooled != null && isAsciiEqual(pooled, bytes, offset, length)) {
+            return pooled;
+        }
+        String s = new String(bytes, offset, length, StandardCharsets.ISO_8859_1);
+        table[slot] = s;
+        return s;
+    }
+
+    private int slot(int hash) {
+        return (hash ^ hash >>> 16) & (table.length - 1);
+    }
+
+    private static boolean isAsciiEqual(String s, byte[] bytes, int offset, int length) {
+        if (s.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (s.charAt(i) != bytes[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -11,8 +11,17 @@ public class Task {
     /** The description of the task. */
     protected final String desc;
 
-    /** Indicates whether the task has been completed. */
-    protected boolean isDone;
+    /** Indicates whether the task has been completed; volatile so that lock-free readers see marks. */
+    protected volatile boolean isDone;
+
+    /** The result of {@link #render()}, reused while the completion status stays at its version. */
+    private volatile Rendering rendered;
+
+    /** Incremented on every change of the completion status. */
+    private volatile int version;
+
+    /** The id given by the {@link TaskList} holding the task, or -1 if it is in no list. */
+    private long id = -1;
 
     /**
      * Constructs a new {@code Task} with the given description.
@@ -43,6 +52,30 @@ public class Task {
         return desc;
     }
 
+    /**
+     * Returns the id of the task.
+     * <p>
+     * Ids are assigned by the {@link TaskList} the task is added to and stay the same while
+     * other tasks are added or deleted, unlike the task's position in the list. They are not
+     * saved, so they only last until the program exits: the HTTP server uses them to address
+     * tasks, while the command line and GUI number tasks by position.
+     * </p>
+     *
+     * @return the task id, or -1 if the task has not been added to a list
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Sets the id of the task. Called by {@link TaskList} when the task is added.
+     *
+     * @param id the task id
+     */
+    void setId(long id) {
+        this.id = id;
+    }
+
     /**
      * Returns a string representing the completion status of the task.
      * <p>
@@ -57,21 +90,61 @@ public class Task {
 
     /**
      * Sets the completion status of the task.
+     * <p>
+     * Changes are serialized on the task, but {@link #isDone()} and {@link #toString()} never
+     * wait for them.
+     * </p>
      *
      * @param done {@code true} to mark the task as done, {@code false} to mark it as not done
      */
-    public void setDone(boolean done) {
-        this.isDone = done;
+    public synchronized void setDone(boolean done) {
+        if (this.isDone != done) {
+            this.isDone = done;
+            version++;
+        }
     }
 
     /**
-     * Returns a string representation of the task, combining its status and description.
+     * Returns a string representation of the task.
+     * <p>
+     * The string is built by {@link #render()} on first use and reused until the
+     * completion status changes, so listing tasks repeatedly does not rebuild it.
+     * A string built while another thread changes the status is tagged with the version
+     * it started at, so it is never reused once that change completes.
+     * </p>
      *
      * @return a formatted string representing the task
      */
     @Override
     public String toString() {
+        int current = version;
+        Rendering r = rendered;
+        if (r != null && r.version == current) {
+            return r.text;
+        }
+        String text = render();
+        rendered = new Rendering(current, text);
+        return text;
+    }
+
+    /**
+     * Builds the string representation of the task, combining its status and description.
+     * Subclasses extend this rather than {@link #toString()} so the result is cached.
+     *
+     * @return a formatted string representing the task
+     */
+    protected String render() {
         return getStatus() + desc;
     }
-}
 
+    /** A cached result of {@link #render()} and the status version it was built at. */
+    private static final class Rendering {
+        private final int version;
+        private final String text;
+
+        private Rendering(int version, String text) {
+            this.version = version;
+            this.text = text;
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package joko.task;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * The list behind {@link TaskList}: a tombstoned array with a Fenwick tree over live slots.
+ * <p>
+ * Appending writes the next free slot. Deleting clears a slot instead of shifting every later
+ * task, and the Fenwick tree (a binary indexed tree of live-slot counts) turns a 1-based list
+ * position into a slot, or a slot back into a position, in O(log n). Once more than half of the
+ * used slots are tombstones, the array is compacted in one O(n) pass, which amortizes to O(1) per
+ * delete. Tasks are also indexed by their {@link Task#getId() id}, so lookups by id are O(1).
+ * </p>
+ * <p>
+ * Every task added must already have a unique id.
+ * </p>
+ */
+class TaskArray extends AbstractList<Task> {
+    /** The minimum number of tombstones before compaction is considered. */
+    private static final int MIN_COMPACT_TOMBSTONES = 64;
+
+    /** The tasks by slot; {@code null} marks a deleted task. */
+    private Task[] slots;
+
+    /** The Fenwick tree over live slots, 1-based: {@code tree[i]} counts live slots in (i - lowbit(i), i]. */
+    private int[] tree;
+
+    /** The number of slots written so far, live or deleted. */
+    private int used;
+
+    /** The number of live tasks. */
+    private int size;
+
+    /** The slot of each live task, by id. */
+    private final HashMap<Long, Integer> slotById = new HashMap<>();
+
+    /**
+     * Constructs an empty {@code TaskArray}.
+     */
+    TaskArray() {
+        this(16);
+    }
+
+    /**
+     * Constructs an empty {@code TaskArray} with room for {@code capacity} tasks.
+     *
+     * @param capacity the initial capacity
+     */
+    TaskArray(int capacity) {
+        slots = new Task[Math.max(capacity, 1)];
+        tree = new int[slots.length + 1];
+    }
+
+    @Override
+    public Task get(int index) {
+        checkIndex(index);
+        return slots[slotAt(index)];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean add(Task task) {
+        assert task != null : "Task must not be null";
+        assert !slotById.containsKey(task.getId()) : "Task id must be unique within the list";
+        if (used == slots.length) {
+            int capacity = slots.length * 2;
+            slots = Arrays.copyOf(slots, capacity);
+            tree = Arrays.copyOf(tree, capacity + 1);
+        }
+
+        slots[used] = task;
+        int i = used + 1;
+        tree[i] = 1 + prefixCount(i - 1) - prefixCount(i - (i & -i));
+        slotById.put(task.getId(), used);
+        used++;
+        size++;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public Task set(int index, Task task) {
+        checkIndex(index);
+        int slot = slotAt(index);
+        Task old = slots[slot];
+        slotById.remove(old.getId());
+        slotById.put(task.getId(), slot);
+        slots[slot] = task;
+        return old;
+    }
+
+    @Override
+    public Task remove(int index) {
+        checkIndex(index);
+        return removeSlot(slotAt(index));
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(slots, 0, used, null);
+        Arrays.fill(tree, 0);
+        slotById.clear();
+        used = 0;
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public Iterator<Task> iterator() {
+        return new Iterator<>() {
+            private int slot = nextLive(0);
+            private final int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return slot < used;
+            }
+
+            @Override
+            public Task next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (slot >= used) {
+                    throw new NoSuchElementException();
+                }
+                Task task = slots[slot];
+                slot = nextLive(slot + 1);
+                return task;
+            }
+        };
+    }
+
+    /**
+     * Returns the task with the given id.
+     *
+     * @param id the task id
+     * @return the task, or {@code null} if no task in the list has that id
+     */
+    Task getById(long id) {
+        Integer slot = slotById.get(id);
+        return slot == null ? null : slots[slot];
+    }
+
+    /**
+     * Returns the 0-based position of the task with the given id.
+     *
+     * @param id the task id
+     * @return the position, or -1 if no task in the list has that id
+     */
+    int indexOfId(long id) {
+        Integer slot = slotById.get(id);
+        return slot == null ? -1 : prefixCount(slot + 1) - 1;
+    }
+
+    /**
+     * Removes the task with the given id.
+     *
+     * @param id the task id
+     * @return the removed task, or {@code null} if no task in the list has that id
+     */
+    Task removeById(long id) {
+        Integer slot = slotById.get(id);
+        return slot == null ? null : removeSlot(slot);
+    }
+
+    private Task removeSlot(int slot) {
+        Task task = slots[slot];
+        slots[slot] = null;
+        for (int i = slot + 1; i <= used; i += i & -i) {
+            tree[i]--;
+        }
+        slotById.remove(task.getId());
+        size--;
+        modCount++;
+
+        int tombstones = used - size;
+        if (tombstones >= MIN_COMPACT_TOMBSTONES && tombstones > size) {
+            compact();
+        }
+        return task;
+    }
+
+    /**
+     * Moves all live tasks to the front of the array and rebuilds the tree and id index.
+     */
+    private void compact() {
+        int live = 0;
+        for (int slot = 0; slot < used; slot++) {
+            if (slots[slot] != null) {
+                slots[live++] = slots[slot];
+            }
+        }
+        Arrays.fill(slots, live, used, null);
+        used = live;
+
+        Arrays.fill(tree, 0);
+        slotById.clear();
+        for (int slot = 0; slot < used; slot++) {
+            int i = slot + 1;
+            tree[i] += 1;
+            int parent = i + (i & -i);
+            if (parent <= used) {
+                tree[parent] += tree[i];
+            }
+            slotById.put(slots[slot].getId(), slot);
+        }
+    }
+
+    /**
+     * Returns the number of live tasks in the first {@code count} slots.
+     */
+    private int prefixCount(int count) {
+        int sum = 0;
+        for (int i = count; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Returns the slot holding the live task at the given 0-based position.
+     */
+    private int slotAt(int index) {
+        int remaining = index + 1;
+        int pos = 0;
+        for (int step = Integer.highestOneBit(used); step > 0; step >>= 1) {
+            int next = pos + step;
+            if (next <= used && tree[next] < remaining) {
+                pos = next;
+                remaining -= tree[next];
+            }
+        }
+        return pos;
+    }
+
+    private int nextLive(int slot) {
+        int s = slot;
+        while (s < used && slots[s] == null) {
+            s++;
+        }
+        return s;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+    }
+}
@@ -1,33 +1,131 @@
 package joko.task;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 
 import joko.storage.Storage;
 
 /**
  * Represents a list of tasks and provides operations to manage them.
  * <p>
- * This class maintains an {@link ArrayList} of {@link Task} objects and
+ * This class maintains a list of {@link Task} objects and
  * ensures that changes to the list are persisted using {@link Storage}.
+ * Every task is given an id that stays the same for as long as it is in the
+ * list, and tasks can be looked up, marked or deleted by id in constant time.
+ * Mutations hold the list's monitor so that a background writer can take
+ * a consistent snapshot.
+ * </p>
+ * <p>
+ * For very large lists, a {@code TaskList} can keep its tasks in a compact columnar form
+ * instead (see {@link #TaskList(List, Storage, boolean)}). That uses a fraction of the memory
+ * but builds a new task object on every access, so it keeps no secondary indexes: finds,
+ * duplicate checks and schedule queries scan the list, and ids are found by binary search.
  * </p>
  */
 public class TaskList {
 
+    /**
+     * How {@link #findTasks(String)} matches tasks.
+     */
+    public enum FindMode {
+        /** Matches whole keywords through the inverted index, ignoring case. */
+        KEYWORD,
+        /** Matches any substring of the description by scanning every task. */
+        SUBSTRING
+    }
+
     /** The list of tasks being managed. */
-    private final ArrayList<Task> tasks;
+    private final List<Task> tasks;
+
+    /** A read-only view of {@link #tasks}, handed out by {@link #getTasks()}. */
+    private final List<Task> view;
+
+    /** The tasks in object form, or {@code null} in columnar mode. */
+    private final TaskArray taskArray;
+
+    /** The tasks in columnar form, or {@code null} if they are kept as objects. */
+    private final ColumnarTaskList columns;
 
     /** The storage used to persist tasks. */
     private final Storage storage;
 
+    /** The number of tasks in the list equal to each task, for constant-time duplicate checks. */
+    private final HashMap<Task, Integer> taskCounts = new HashMap<>();
+
+    /** The keyword index over task descriptions, maintained while in {@link FindMode#KEYWORD} mode. */
+    private final KeywordIndex keywordIndex = new KeywordIndex();
+
+    /** The deadlines in the list ordered by due time. */
+    private final DeadlineIndex deadlineIndex = new DeadlineIndex();
+
+    /** The timed events in the list as an interval tree. */
+    private final EventIndex eventIndex = new EventIndex();
+
+    /** How {@link #findTasks(String)} matches tasks. */
+    private FindMode findMode;
+
+    /** The id given to the next task added. */
+    private long nextId = 1;
+
     /**
      * Constructs a new {@code TaskList} with the given tasks and storage.
+     * <p>
+     * The find mode defaults to {@link FindMode#SUBSTRING}, which matches the way {@code find}
+     * has always worked; setting the {@code joko.find} system property to {@code keyword} selects
+     * the indexed {@link FindMode#KEYWORD} instead.
+     * Setting the {@code joko.tasks} system property to {@code columnar} keeps the tasks in
+     * columnar form.
+     * </p>
      *
-     * @param tasks   the initial list of tasks
+     * @param tasks   the initial list of tasks, which is copied
      * @param storage the storage instance to save tasks to
      */
-    public TaskList(ArrayList<Task> tasks, Storage storage) {
-        this.tasks = tasks;
+    public TaskList(List<Task> tasks, Storage storage) {
+        this(tasks, storage, System.getProperty("joko.tasks", "objects").equalsIgnoreCase("columnar"));
+    }
+
+    /**
+     * Constructs a new {@code TaskList} with the given tasks and storage, optionally in columnar form.
+     * <p>
+     * In columnar form only to-dos, deadlines and events can be stored, the find mode is always
+     * {@link FindMode#SUBSTRING}, and the tasks returned by the list are copies: they do not
+     * change when the list does.
+     * </p>
+     *
+     * @param tasks      the initial list of tasks, which is copied
+     * @param storage    the storage instance to save tasks to
+     * @param isColumnar whether to keep the tasks in columnar form
+     * @throws IllegalArgumentException if {@code isColumnar} is set and a task has another type
+     */
+    public TaskList(List<Task> tasks, Storage storage, boolean isColumnar) {
         this.storage = storage;
+        if (isColumnar) {
+            this.taskArray = null;
+            this.columns = new ColumnarTaskList(tasks.size());
+            this.tasks = columns;
+            this.view = Collections.unmodifiableList(columns);
+            this.tasks.addAll(tasks);
+            this.findMode = FindMode.SUBSTRING;
+            return;
+        }
+        this.taskArray = new TaskArray(tasks.size());
+        this.columns = null;
+        this.tasks = taskArray;
+        this.view = Collections.unmodifiableList(taskArray);
+        for (Task t : tasks) {
+            t.setId(nextId++);
+            this.tasks.add(t);
+            taskCounts.merge(t, 1, Integer::sum);
+            deadlineIndex.add(t);
+            eventIndex.add(t);
+        }
+        boolean isKeyword = System.getProperty("joko.find", "substring").equalsIgnoreCase("keyword");
+        applyFindMode(isKeyword ? FindMode.KEYWORD : FindMode.SUBSTRING);
     }
 
     /**
@@ -37,11 +135,36 @@ public class TaskList {
      * @return the task that was added
      */
     public Task addTask(Task task) {
-        tasks.add(task);
-        storage.saveTasks(tasks);
+        synchronized (tasks) {
+            if (columns == null) {
+                task.setId(nextId++);
+            }
+            tasks.add(task);
+        }
+        if (columns != null) {
+            storage.recordAdd(tasks, task);
+            return task;
+        }
+        taskCounts.merge(task, 1, Integer::sum);
+        deadlineIndex.add(task);
+        eventIndex.add(task);
+        if (findMode == FindMode.KEYWORD) {
+            keywordIndex.add(task);
+        }
+        storage.recordAdd(tasks, task);
         return task;
     }
 
+    /**
+     * Adds a task unless an equal task is already in the list.
+     *
+     * @param task the task to add
+     * @return the task that was added, or {@code null} if it is a duplicate
+     */
+    public Task addTaskIfAbsent(Task task) {
+        return contains(task) ? null : addTask(task);
+    }
+
     /**
      * Deletes the task at the specified index and saves the updated list to storage.
      *
@@ -53,11 +176,33 @@ public class TaskList {
         if (index < 0 || index >= tasks.size()) {
             throw new IndexOutOfBoundsException("Invalid task index.");
         }
-        Task removedTask = tasks.remove(index);
-        storage.saveTasks(tasks);
+        Task removedTask;
+        synchronized (tasks) {
+            removedTask = tasks.remove(index);
+        }
+        if (columns != null) {
+            storage.recordDelete(tasks, index);
+            return removedTask;
+        }
+        taskCounts.computeIfPresent(removedTask, (t, count) -> count > 1 ? count - 1 : null);
+        keywordIndex.remove(removedTask);
+        deadlineIndex.remove(removedTask);
+        eventIndex.remove(removedTask);
+        storage.recordDelete(tasks, index);
         return removedTask;
     }
 
+    /**
+     * Deletes the task with the given id and saves the updated list to storage.
+     *
+     * @param id the id of the task to delete
+     * @return the task that was removed
+     * @throws IllegalArgumentException if no task in the list has that id
+     */
+    public Task deleteTaskById(long id) {
+        return deleteTask(indexOfId(id));
+    }
+
     /**
      * Marks or unmarks the task at the specified index and saves the updated list to storage.
      *
@@ -71,20 +216,213 @@ public class TaskList {
             throw new IndexOutOfBoundsException("Invalid task index.");
         }
         Task task = tasks.get(index);
-        task.setDone(isDone);
-        storage.saveTasks(tasks);
+        synchronized (tasks) {
+            task.setDone(isDone);
+            if (columns != null) {
+                columns.setDone(index, isDone);
+            }
+        }
+        storage.recordMark(tasks, index);
         return task;
     }
 
     /**
-     * Returns a list of tasks whose descriptions contain the given keyword.
+     * Marks or unmarks the task with the given id and saves the updated list to storage.
+     *
+     * @param id     the id of the task to mark/unmark
+     * @param isDone {@code true} to mark as done, {@code false} to mark as not done
+     * @return the task that was updated
+     * @throws IllegalArgumentException if no task in the list has that id
+     */
+    public Task markTaskById(long id, boolean isDone) {
+        return markTask(indexOfId(id), isDone);
+    }
+
+    /**
+     * Returns the task with the given id.
+     *
+     * @param id the task id
+     * @return the task, or {@code null} if no task in the list has that id
+     */
+    public Task getTaskById(long id) {
+        if (columns != null) {
+            int index = columns.indexOfId(id);
+            return index < 0 ? null : columns.get(index);
+        }
+        return taskArray.getById(id);
+    }
+
+    /**
+     * Returns the current 0-based index of the task with the given id.
+     *
+     * @param id the task id
+     * @return the index of the task
+     * @throws IllegalArgumentException if no task in the list has that id
+     */
+    public int indexOfId(long id) {
+        int index;
+        if (columns != null) {
+            index = columns.indexOfId(id);
+        } else {
+            index = taskArray.indexOfId(id);
+        }
+        if (index < 0) {
+            throw new IllegalArgumentException("No task with id " + id + ".");
+        }
+        return index;
+    }
+
+    /**
+     * Deletes the tasks at the given positions in one pass and saves the list to storage once.
+     * <p>
+     * All positions are checked before anything is removed, so an invalid position leaves the
+     * list unchanged.
+     * </p>
+     *
+     * @param indices the 0-based positions of the tasks to delete, ascending and distinct
+     * @return the tasks that were removed, in list order
+     * @throws IndexOutOfBoundsException if any position is invalid
+     */
+    public List<Task> deleteTasks(int[] indices) {
+        checkIndices(indices);
+        Task[] removed = new Task[indices.length];
+        synchronized (tasks) {
+            if (columns != null) {
+                for (int i = 0; i < indices.length; i++) {
+                    removed[i] = tasks.get(indices[i]);
+                }
+                columns.removeAll(indices);
+            } else {
+                for (int i = indices.length - 1; i >= 0; i--) {
+                    removed[i] = tasks.remove(indices[i]);
+                }
+            }
+        }
+        if (columns == null) {
+            for (Task t : removed) {
+                taskCounts.computeIfPresent(t, (task, count) -> count > 1 ? count - 1 : null);
+                keywordIndex.remove(t);
+                deadlineIndex.remove(t);
+                eventIndex.remove(t);
+            }
+        }
+        if (indices.length > 0) {
+            storage.recordDeletes(tasks, indices);
+        }
+        return Arrays.asList(removed);
+    }
+
+    /**
+     * Marks or unmarks the tasks at the given positions in one pass and saves the list to storage once.
+     * <p>
+     * All positions are checked before anything is changed, so an invalid position leaves the
+     * list unchanged.
+     * </p>
+     *
+     * @param indices the 0-based positions of the tasks to update, ascending and distinct
+     * @param isDone  {@code true} to mark as done, {@code false} to mark as not done
+     * @return the tasks that were updated, in list order
+     * @throws IndexOutOfBoundsException if any position is invalid
+     */
+    public List<Task> markTasks(int[] indices, boolean isDone) {
+        checkIndices(indices);
+        Task[] updated = new Task[indices.length];
+        synchronized (tasks) {
+            for (int i = 0; i < indices.length; i++) {
+                updated[i] = tasks.get(indices[i]);
+                updated[i].setDone(isDone);
+                if (columns != null) {
+                    columns.setDone(indices[i], isDone);
+                }
+            }
+        }
+        if (indices.length > 0) {
+            storage.recordMarks(tasks, indices);
+        }
+        return Arrays.asList(updated);
+    }
+
+    /**
+     * Returns the positions of all completed tasks.
+     *
+     * @return the 0-based positions, ascending
+     */
+    public int[] indicesOfDone() {
+        int[] indices = new int[tasks.size()];
+        int count = 0;
+        int position = 0;
+        for (Task t : tasks) {
+            if (t.isDone()) {
+                indices[count++] = position;
+            }
+            position++;
+        }
+        return Arrays.copyOf(indices, count);
+    }
+
+    /**
+     * Returns the positions in the given range.
      *
-     * <p>The search is case-insensitive.</p>
+     * @param start the first position (0-based, inclusive)
+     * @param end   the last position (0-based, exclusive)
+     * @return the 0-based positions, ascending
+     * @throws IndexOutOfBoundsException if the range does not lie within the list
+     */
+    public int[] indicesOfRange(int start, int end) {
+        if (start < 0 || end > tasks.size() || start > end) {
+            throw new IndexOutOfBoundsException("Invalid task range.");
+        }
+        int[] indices = new int[end - start];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = start + i;
+        }
+        return indices;
+    }
+
+    /**
+     * Returns the positions of the tasks that {@link #findTasks(String)} matches.
      *
-     * @param keyword the keyword to search for
+     * @param keyword the keyword(s) to search for
+     * @return the 0-based positions, ascending
+     */
+    public int[] indicesOfMatches(String keyword) {
+        ArrayList<Task> matches = findTasks(keyword);
+        int[] indices = new int[matches.size()];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = indexOfId(matches.get(i).getId());
+        }
+        return indices;
+    }
+
+    /**
+     * Returns a list of tasks whose descriptions match the given keywords.
+     *
+     * <p>In {@link FindMode#KEYWORD} mode, a task matches if its description contains every
+     * keyword as a whole word, ignoring case. Queries without any letters or digits, and
+     * {@link FindMode#SUBSTRING} mode, fall back to {@link #findTasksBySubstring(String)}.</p>
+     *
+     * @param keyword the keyword(s) to search for
      * @return an ArrayList of matching tasks
      */
     public ArrayList<Task> findTasks(String keyword) {
+        if (findMode == FindMode.KEYWORD) {
+            ArrayList<Task> results = keywordIndex.find(keyword);
+            if (results != null) {
+                return results;
+            }
+        }
+        return findTasksBySubstring(keyword);
+    }
+
+    /**
+     * Returns a list of tasks whose descriptions contain the given text.
+     *
+     * <p>The search is case-sensitive and scans every task.</p>
+     *
+     * @param keyword the text to search for
+     * @return an ArrayList of matching tasks
+     */
+    public ArrayList<Task> findTasksBySubstring(String keyword) {
         ArrayList<Task> results = new ArrayList<>();
         for (Task t : tasks) {
             if (t.getDesc().contains(keyword)) {
@@ -94,13 +432,138 @@ public class TaskList {
         return results;
     }
 
+    /**
+     * Returns the deadlines due strictly before the given time, earliest first.
+     * <p>
+     * Like the other {@code findDue} methods, this runs in O(log n + k) time for k results.
+     * </p>
+     *
+     * @param time the time the deadlines must be due before
+     * @return the matching deadlines in order of due time
+     */
+    public ArrayList<Task> findDueBefore(LocalDateTime time) {
+        return deadlines().find(null, false, time, false);
+    }
+
+    /**
+     * Returns the deadlines due strictly after the given time, earliest first.
+     *
+     * @param time the time the deadlines must be due after
+     * @return the matching deadlines in order of due time
+     */
+    public ArrayList<Task> findDueAfter(LocalDateTime time) {
+        return deadlines().find(time, false, null, false);
+    }
+
+    /**
+     * Returns the deadlines due between the given times, inclusive, earliest first.
+     *
+     * @param from the earliest due time to include
+     * @param to   the latest due time to include
+     * @return the matching deadlines in order of due time
+     * @throws IllegalArgumentException if {@code from} is after {@code to}
+     */
+    public ArrayList<Task> findDueBetween(LocalDateTime from, LocalDateTime to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("Start of range must not be after its end.");
+        }
+        return deadlines().find(from, true, to, true);
+    }
+
+    /**
+     * Returns the timed events that overlap the range [from, to), in order of start time.
+     * <p>
+     * Like the other schedule queries, this uses an interval tree and runs in O(log n + k) time
+     * for k results. Events without parsed times are never included.
+     * </p>
+     *
+     * @param from the start of the range
+     * @param to   the end of the range
+     * @return the overlapping events
+     */
+    public ArrayList<Task> findEventsBetween(LocalDateTime from, LocalDateTime to) {
+        return new ArrayList<>(events().findOverlapping(from, to));
+    }
+
+    /**
+     * Returns the timed events taking place on the given date, followed by the deadlines due that day.
+     *
+     * @param date the date to look up
+     * @return the events in order of start time, then the deadlines in order of due time
+     */
+    public ArrayList<Task> findOn(LocalDate date) {
+        LocalDateTime dayStart = date.atStartOfDay();
+        LocalDateTime nextDay = dayStart.plusDays(1);
+        ArrayList<Task> results = findEventsBetween(dayStart, nextDay);
+        results.addAll(deadlines().find(dayStart, true, nextDay, false));
+        return results;
+    }
+
+    /**
+     * Returns every pair of timed events whose times overlap.
+     *
+     * @return the conflicting pairs, each an array of two events with the earlier-starting one first
+     */
+    public List<Event[]> findConflicts() {
+        return events().findConflicts();
+    }
+
+    /**
+     * Returns the gaps in [from, to) not taken up by any timed event.
+     *
+     * @param from the start of the range
+     * @param to   the end of the range
+     * @return the free time slots, earliest first
+     * @throws IllegalArgumentException if {@code from} is not before {@code to}
+     */
+    public List<TimeSlot> findFreeSlots(LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("Start of range must be before its end.");
+        }
+        return events().findFreeSlots(from, to);
+    }
+
+    /**
+     * Returns how {@link #findTasks(String)} matches tasks.
+     *
+     * @return the current find mode
+     */
+    public FindMode getFindMode() {
+        return findMode;
+    }
+
+    /**
+     * Sets how {@link #findTasks(String)} matches tasks.
+     * <p>
+     * Switching to {@link FindMode#KEYWORD} rebuilds the keyword index from the current tasks;
+     * switching away drops it.
+     * </p>
+     *
+     * @param findMode the find mode to use
+     * @throws IllegalStateException if the list is in columnar form and {@code findMode} is
+     *                               {@link FindMode#KEYWORD}
+     */
+    public void setFindMode(FindMode findMode) {
+        assert findMode != null : "Find mode must not be null";
+        if (columns != null && findMode == FindMode.KEYWORD) {
+            throw new IllegalStateException("Keyword find is not available for a columnar task list.");
+        }
+        applyFindMode(findMode);
+    }
+
     /**
      * Returns the list of tasks.
+     * <p>
+     * The list is a live, read-only view: it reflects later changes, which must be made through
+     * this class so that the indexes and storage stay in sync. Positional access takes O(log n)
+     * time; iteration is linear.
+     * In columnar form, positional access is constant time but returns a new copy of the task.
+     * </p>
      *
-     * @return the {@link ArrayList} of tasks
+     * @return the list of tasks
      */
-    public ArrayList<Task> getTasks() {
-        return tasks;
+    public List<Task> getTasks() {
+        return view;
     }
 
     /**
@@ -112,7 +575,75 @@ public class TaskList {
         return tasks.size();
     }
 
+    /**
+     * Returns the last error met while saving changes to storage, and forgets it.
+     *
+     * @return the error message, or {@code null} if every change since the last call was saved
+     */
+    public String takeStorageError() {
+        return storage.takeError();
+    }
+
+    /**
+     * Returns whether the list contains a task equal to the given one.
+     * <p>
+     * Runs in constant time using the hash codes of the task types, or in linear time over
+     * the encoded tasks in columnar form.
+     * </p>
+     *
+     * @param t the task to look for
+     * @return {@code true} if an equal task is in the list, {@code false} otherwise
+     */
     public boolean contains(Task t) {
-        return tasks.contains(t); // tasks is your internal List<Task>
+        if (columns != null) {
+            return columns.contains(t);
+        }
+        return taskCounts.containsKey(t);
+    }
+
+    /**
+     * Returns the deadline index, or in columnar form a temporary one built by scanning the list.
+     */
+    private DeadlineIndex deadlines() {
+        if (columns == null) {
+            return deadlineIndex;
+        }
+        DeadlineIndex index = new DeadlineIndex();
+        for (Task t : tasks) {
+            index.add(t);
+        }
+        return index;
+    }
+
+    /**
+     * Returns the event index, or in columnar form a temporary one built by scanning the list.
+     */
+    private EventIndex events() {
+        if (columns == null) {
+            return eventIndex;
+        }
+        EventIndex index = new EventIndex();
+        for (Task t : tasks) {
+            index.add(t);
+        }
+        return index;
+    }
+
+    private void applyFindMode(FindMode findMode) {
+        keywordIndex.clear();
+        if (findMode == FindMode.KEYWORD) {
+            for (Task t : tasks) {
+                keywordIndex.add(t);
+            }
+        }
+        this.findMode = findMode;
+    }
+
+    private void checkIndices(int[] indices) {
+        for (int i = 0; i < indices.length; i++) {
+            if (indices[i] < 0 || indices[i] >= tasks.size() || i > 0 && indices[i] <= indices[i - 1]) {
+                throw new IndexOutOfBoundsException("Invalid task index.");
+            }
+        }
     }
 }
@@ -0,0 +1,54 @@
+package joko.task;
+
+import java.time.LocalDateTime;
+
+/**
+ * Represents a span of time from a start (inclusive) to an end (exclusive).
+ */
+public class TimeSlot {
+    /** The start of the slot. */
+    private final LocalDateTime start;
+
+    /** The end of the slot. */
+    private final LocalDateTime end;
+
+    /**
+     * Constructs a new {@code TimeSlot}.
+     *
+     * @param start the start of the slot
+     * @param end   the end of the slot, after {@code start}
+     */
+    public TimeSlot(LocalDateTime start, LocalDateTime end) {
+        assert start.isBefore(end) : "Time slot must end after it starts";
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Returns the start of the slot.
+     *
+     * @return the start time
+     */
+    public LocalDateTime getStart() {
+        return start;
+    }
+
+    /**
+     * Returns the end of the slot.
+     *
+     * @return the end time
+     */
+    public LocalDateTime getEnd() {
+        return end;
+    }
+
+    /**
+     * Returns the slot as {@code <start> - <end>}, using the same format as deadlines.
+     *
+     * @return a formatted string representing the slot
+     */
+    @Override
+    public String toString() {
+        return start.format(Deadline.OUTPUT_FORMAT) + " - " + end.format(Deadline.OUTPUT_FORMAT);
+    }
+}
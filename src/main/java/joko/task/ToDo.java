@@ -1,5 +1,7 @@
 package joko.task;
 
+import java.util.Objects;
+
 /**
  * Represents a simple to-do task without a specific date or time.
  * <p>
@@ -37,6 +39,17 @@ public class ToDo extends Task {
         return desc.equals(other.desc);
     }
 
+    /**
+     * Returns a hash code consistent with {@link #equals(Object)}, derived from the
+     * description.
+     *
+     * @return the hash code of this ToDo
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(desc);
+    }
+
     /**
      * Returns a string representation of the to-do task, including its type
      * and completion status.
@@ -44,7 +57,7 @@ public class ToDo extends Task {
      * @return a formatted string representing the to-do task
      */
     @Override
-    public String toString() {
-        return "[T]" + super.toString();
+    protected String render() {
+        return "[T]" + super.render();
     }
 }
@@ -1,10 +1,19 @@
 package joko.ui;
 
 
-import java.util.ArrayList;
+import java.io.BufferedWriter;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Scanner;
 
+import joko.command.CommandResult;
+import joko.task.Event;
 import joko.task.Task;
+import joko.task.TimeSlot;
 
 /**
  * Handles the user interface for the Joko task manager application.
@@ -16,18 +25,45 @@ import joko.task.Task;
  *     <li>Displaying messages related to task addition, deletion, and status changes.</li>
  * </ul>
  * <p>
- * It uses {@link Scanner} to read input from the user.
+ * It uses {@link Scanner} to read input from the user. Output goes through a
+ * buffered writer that is flushed once per message, so long task lists are
+ * written in a few large chunks instead of one system call per line. A
+ * non-interactive {@code Ui}, used to run a script of commands, only flushes
+ * when the buffer fills up or the {@code Ui} is closed.
  * </p>
  */
 public class Ui {
+    private static final String LINE = "____________________________________________________________";
 
     private final Scanner sc;
 
+    private final PrintWriter out;
+
+    private final boolean isInteractive;
+
     /**
      * Constructs a new {@code Ui} instance and initializes the input scanner.
      */
     public Ui() {
         this.sc = new Scanner(System.in);
+        this.out = new PrintWriter(new BufferedWriter(new OutputStreamWriter(System.out), 1 << 16));
+        this.isInteractive = true;
+    }
+
+    /**
+     * Constructs a non-interactive {@code Ui} that reads commands from {@code in} and writes
+     * to {@code out}, both as UTF-8.
+     * <p>
+     * Output is not flushed after every message; call {@link #close()} to write what remains.
+     * </p>
+     *
+     * @param in  the source of commands
+     * @param out the destination of all messages
+     */
+    public Ui(InputStream in, OutputStream out) {
+        this.sc = new Scanner(in, StandardCharsets.UTF_8);
+        this.out = new PrintWriter(new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 1 << 16));
+        this.isInteractive = false;
     }
 
     /**
@@ -35,19 +71,21 @@ public class Ui {
      *
      * @param tasks the list of tasks to display
      */
-    public void showWelcome(ArrayList<Task> tasks) {
-        System.out.println("____________________________________________________________");
-        System.out.println("Hello! I'm Joko");
-        System.out.println("What can I do for you?");
+    public void showWelcome(List<Task> tasks) {
+        out.println(LINE);
+        out.println("Hello! I'm Joko");
+        out.println("What can I do for you?");
         if (tasks.isEmpty()) {
-            System.out.println("No tasks in your list yet.");
+            out.println("No tasks in your list yet.");
         } else {
-            System.out.println("Here are the tasks in your list:");
-            for (int i = 0; i < tasks.size(); i++) {
-                System.out.println((i + 1) + ". " + tasks.get(i));
+            out.println("Here are the tasks in your list:");
+            int number = 0;
+            for (Task t : tasks) {
+                out.println((++number) + ". " + t);
             }
         }
-        System.out.println("____________________________________________________________");
+        out.println(LINE);
+        endMessage();
     }
 
     /**
@@ -59,22 +97,49 @@ public class Ui {
         return sc.nextLine();
     }
 
+    /**
+     * Returns whether there is another line of input to read.
+     *
+     * @return {@code true} if {@link #readCommand()} will return a line
+     */
+    public boolean hasNextCommand() {
+        return sc.hasNextLine();
+    }
+
     /**
      * Displays all tasks currently in the list.
      *
      * @param tasks the list of tasks to display
      */
-    public void showTaskList(ArrayList<Task> tasks) {
-        System.out.println("____________________________________________________________");
+    public void showTaskList(List<Task> tasks) {
+        out.println(LINE);
         if (tasks.isEmpty()) {
-            System.out.println("No tasks in your list yet.");
+            out.println("No tasks in your list yet.");
         } else {
-            System.out.println("Here are the tasks in your list:");
-            for (int i = 0; i < tasks.size(); i++) {
-                System.out.println((i + 1) + ". " + tasks.get(i));
+            out.println("Here are the tasks in your list:");
+            int number = 0;
+            for (Task t : tasks) {
+                out.println((++number) + ". " + t);
             }
         }
-        System.out.println("____________________________________________________________");
+        out.println(LINE);
+        endMessage();
+    }
+
+    /**
+     * Displays the tasks at positions {@code [start, end)} of the list, numbered by their
+     * position in the full list.
+     *
+     * @param tasks the list of tasks
+     * @param start the first position to show (0-based, inclusive)
+     * @param end   the position after the last one to show (0-based, exclusive)
+     */
+    public void showTaskList(List<Task> tasks, int start, int end) {
+        assert start >= 0 && start <= end : "Range must be non-negative and ordered";
+        out.println(LINE);
+        printTasks(tasks, start, end);
+        out.println(LINE);
+        endMessage();
     }
 
     /**
@@ -83,9 +148,10 @@ public class Ui {
      * @param message the message to display
      */
     public void showMessage(String message) {
-        System.out.println("____________________________________________________________");
-        System.out.println(message);
-        System.out.println("____________________________________________________________");
+        out.println(LINE);
+        out.println(message);
+        out.println(LINE);
+        endMessage();
     }
 
     /**
@@ -96,10 +162,11 @@ public class Ui {
      * @param size the new total number of tasks
      */
     public void showTaskAdded(Task task, int size) {
-        System.out.println("____________________________________________________________");
-        System.out.println("Got it. I've added this task:\n  " + task);
-        System.out.println("Now you have " + size + " tasks in the list.");
-        System.out.println("____________________________________________________________");
+        out.println(LINE);
+        out.println("Got it. I've added this task:\n  " + task);
+        out.println("Now you have " + size + " tasks in the list.");
+        out.println(LINE);
+        endMessage();
     }
 
     /**
@@ -110,10 +177,11 @@ public class Ui {
      * @param size the new total number of tasks
      */
     public void showTaskDeleted(Task task, int size) {
-        System.out.println("____________________________________________________________");
-        System.out.println(" Noted. I've removed this task:\n  " + task);
-        System.out.println("Now you have " + size + " tasks in the list.");
-        System.out.println("____________________________________________________________");
+        out.println(LINE);
+        out.println(" Noted. I've removed this task:\n  " + task);
+        out.println("Now you have " + size + " tasks in the list.");
+        out.println(LINE);
+        endMessage();
     }
 
     /**
@@ -123,14 +191,47 @@ public class Ui {
      * @param isDone {@code true} if the task is marked as done, {@code false} otherwise
      */
     public void showTaskMarked(Task task, boolean isDone) {
-        System.out.println("____________________________________________________________");
+        out.println(LINE);
         if (isDone) {
-            System.out.println("Nice! I've marked this task as done:");
+            out.println("Nice! I've marked this task as done:");
         } else {
-            System.out.println("OK, I've marked this task as not done yet:");
+            out.println("OK, I've marked this task as not done yet:");
         }
-        System.out.println("  " + task);
-        System.out.println("____________________________________________________________");
+        out.println("  " + task);
+        out.println(LINE);
+        endMessage();
+    }
+
+    /**
+     * Displays a message indicating that several tasks have been removed by a bulk command,
+     * along with the total number of tasks.
+     *
+     * @param count the number of tasks removed
+     * @param size  the new total number of tasks
+     */
+    public void showTasksDeleted(int count, int size) {
+        out.println(LINE);
+        out.println(" Noted. I've removed " + count + " tasks.");
+        out.println("Now you have " + size + " tasks in the list.");
+        out.println(LINE);
+        endMessage();
+    }
+
+    /**
+     * Displays a message indicating that several tasks have been marked or unmarked by a bulk command.
+     *
+     * @param count  the number of tasks updated
+     * @param isDone {@code true} if the tasks are marked as done, {@code false} otherwise
+     */
+    public void showTasksMarked(int count, boolean isDone) {
+        out.println(LINE);
+        if (isDone) {
+            out.println("Nice! I've marked " + count + " tasks as done.");
+        } else {
+            out.println("OK, I've marked " + count + " tasks as not done yet.");
+        }
+        out.println(LINE);
+        endMessage();
     }
 
     /**
@@ -140,23 +241,117 @@ public class Ui {
      *
      * @param tasks the list of matching tasks
      */
-    public void showFoundTasks(ArrayList<Task> tasks) {
-        System.out.println("____________________________________________________________");
+    public void showFoundTasks(List<Task> tasks) {
+        out.println(LINE);
         if (tasks.isEmpty()) {
-            System.out.println("No matching tasks found.");
+            out.println("No matching tasks found.");
         } else {
-            System.out.println("Here are the matching tasks in your list:");
-            for (int i = 0; i < tasks.size(); i++) {
-                System.out.println((i + 1) + "." + tasks.get(i));
+            out.println("Here are the matching tasks in your list:");
+            int number = 0;
+            for (Task t : tasks) {
+                out.println((++number) + "." + t);
             }
         }
-        System.out.println("____________________________________________________________");
+        out.println(LINE);
+        endMessage();
     }
 
     /**
-     * Closes the input scanner.
+     * Displays every pair of events whose times overlap.
+     *
+     * @param conflicts the conflicting pairs, each an array of two events
+     */
+    public void showConflicts(List<Event[]> conflicts) {
+        out.println(LINE);
+        if (conflicts.isEmpty()) {
+            out.println("No conflicting events found.");
+        } else {
+            out.println("These events overlap:");
+            int number = 0;
+            for (Event[] pair : conflicts) {
+                out.println((++number) + ". " + pair[0] + "\n   and " + pair[1]);
+            }
+        }
+        out.println(LINE);
+        endMessage();
+    }
+
+    /**
+     * Displays the free time slots found in a range.
+     *
+     * @param slots the free time slots, earliest first
+     */
+    public void showFreeSlots(List<TimeSlot> slots) {
+        out.println(LINE);
+        if (slots.isEmpty()) {
+            out.println("No free time in that range.");
+        } else {
+            out.println("You are free at these times:");
+            for (TimeSlot slot : slots) {
+                out.println("  " + slot);
+            }
+        }
+        out.println(LINE);
+        endMessage();
+    }
+
+    /**
+     * Displays the result of a command.
+     *
+     * @param result the result to display
+     */
+    public void show(CommandResult result) {
+        switch (result.kind) {
+        case MESSAGE, EXIT -> showMessage(result.message);
+        case TASK_LIST -> {
+            if (result.rangeStart < 0) {
+                showTaskList(result.tasks);
+            } else {
+                showTaskList(result.tasks, result.rangeStart, result.rangeEnd);
+            }
+        }
+        case TASK_ADDED -> showTaskAdded(result.task, result.size);
+        case TASK_DELETED -> showTaskDeleted(result.task, result.size);
+        case TASK_MARKED -> showTaskMarked(result.task, result.isDone);
+        case TASKS_DELETED -> showTasksDeleted(result.count, result.size);
+        case TASKS_MARKED -> showTasksMarked(result.count, result.isDone);
+        case FOUND_TASKS -> showFoundTasks(result.tasks);
+        case CONFLICTS -> showConflicts(result.conflicts);
+        case FREE_SLOTS -> showFreeSlots(result.slots);
+        }
+    }
+
+    /**
+     * Writes any buffered output and closes the input scanner.
      */
     public void close() {
+        out.flush();
         sc.close();
     }
+
+    private void endMessage() {
+        if (isInteractive) {
+            out.flush();
+        }
+    }
+
+    /**
+     * Prints the tasks at positions {@code [start, end)} without the surrounding lines.
+     */
+    private void printTasks(List<Task> tasks, int start, int end) {
+        int last = Math.min(end, tasks.size());
+        if (tasks.isEmpty()) {
+            out.println("No tasks in your list yet.");
+        } else if (start >= last) {
+            out.println("There are only " + tasks.size() + " tasks in your list.");
+        } else {
+            out.println("Here are tasks " + (start + 1) + "-" + last + " of " + tasks.size() + " in your list:");
+            for (int i = start; i < last; i++) {
+                out.println((i + 1) + ". " + tasks.get(i));
+            }
+            if (last < tasks.size()) {
+                out.println("Use \"list --page <n>\" or \"list <from>-<to>\" to see more.");
+            }
+        }
+    }
 }
@@ -0,0 +1,149 @@
+package joko.command;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import joko.parser.Parser;
+import joko.storage.Storage;
+import joko.task.Deadline;
+import joko.task.Task;
+import joko.task.TaskList;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
+class CommandEngineTest {
+
+    private TaskList taskList;
+    private CommandEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        Storage nullStorage = new Storage("unused") {
+            @Override
+            public void saveTasks(List<Task> tasks) {
+            }
+        };
+        taskList = new TaskList(new ArrayList<>(), nullStorage);
+        engine = new CommandEngine(taskList);
+    }
+
+    @Test
+    void execute_addCommands_shouldAddTasksOnce() {
+        CommandResult added = engine.execute("todo read book");
+        assertEquals(CommandResult.Kind.TASK_ADDED, added.kind);
+        assertEquals("read book", added.task.getDesc());
+        assertEquals(1, added.size);
+
+        CommandResult duplicate = engine.execute("TODO read book");
+        assertEquals(CommandResult.Kind.MESSAGE, duplicate.kind);
+        assertEquals("Duplicate task detected! Task not added.", duplicate.message);
+
+        assertTrue(engine.execute("deadline report /by 20/10/2026 1800").task instanceof Deadline);
+        assertEquals(3, engine.execute("event meeting /from Mon 2pm /to 4pm").size);
+        assertEquals(3, taskList.size());
+    }
+
+    @Test
+    void execute_markAndDelete_shouldActOnTaskList() {
+        engine.execute("todo read book");
+        engine.execute("todo read news");
+        engine.execute("todo swim");
+
+        CommandResult marked = engine.execute("mark 2");
+        assertEquals(CommandResult.Kind.TASK_MARKED, marked.kind);
+        assertTrue(marked.isDone);
+        assertTrue(taskList.getTasks().get(1).isDone());
+
+        CommandResult bulk = engine.execute("unmark --find read");
+        assertEquals(CommandResult.Kind.TASKS_MARKED, bulk.kind);
+        assertEquals(2, bulk.count);
+        assertFalse(taskList.getTasks().get(1).isDone());
+
+        CommandResult deleted = engine.execute("delete 1-2");
+        assertEquals(CommandResult.Kind.TASKS_DELETED, deleted.kind);
+        assertEquals(2, deleted.count);
+        assertEquals(1, deleted.size);
+        assertEquals("swim", engine.execute("delete 1").task.getDesc());
+    }
+
+    @Test
+    void execute_queries_shouldReturnTasks() {
+        engine.execute("todo read book");
+        engine.execute("todo swim");
+
+        CommandResult list = engine.execute("list");
+        assertEquals(CommandResult.Kind.TASK_LIST, list.kind);
+        assertEquals(-1, list.rangeStart);
+        assertEquals(2, list.tasks.size());
+
+        CommandResult range = engine.execute("list 2-2");
+        assertEquals(1, range.rangeStart);
+        assertEquals(2, range.rangeEnd);
+
+        CommandResult found = engine.execute("find book");
+        assertEquals(CommandResult.Kind.FOUND_TASKS, found.kind);
+        assertEquals(List.of(taskList.getTasks().get(0)), found.tasks);
+        assertEquals(CommandResult.Kind.CONFLICTS, engine.execute("conflicts").kind);
+    }
+
+    @Test
+    void execute_invalidInput_shouldReturnMessages() {
+        assertEquals("Sorry, I could not understand your command :(", engine.execute("dance").message);
+        assertTrue(engine.execute("mark x").message.startsWith("Please type a valid input: <mark/unmark>"));
+        assertTrue(engine.execute("delete 5").message.startsWith("Please type a valid input: <delete>"));
+        assertTrue(engine.execute("deadline report").message.startsWith("Error adding task: "));
+        assertEquals(0, taskList.size());
+    }
+
+    @Test
+    void execute_bye_shouldExit() {
+        CommandResult bye = engine.execute("bye");
+        assertTrue(bye.isExit());
+        assertFalse(engine.execute("list").isExit());
+    }
+
+    @Test
+    void execute_whenSaveFails_shouldReportTheError() {
+        Storage failingStorage = new Storage("unused") {
+            @Override
+            public void saveTasks(List<Task> tasks) {
+                reportError("Error saving tasks: disk full");
+            }
+        };
+        CommandEngine failingEngine = new CommandEngine(new TaskList(new ArrayList<>(), failingStorage));
+        PrintStream console = System.out;
+        ByteArrayOutputStream printed = new ByteArrayOutputStream();
+        CommandResult result;
+        System.setOut(new PrintStream(printed));
+        try {
+            result = failingEngine.execute("todo read book");
+        } finally {
+            System.setOut(console);
+        }
+
+        assertEquals(CommandResult.Kind.MESSAGE, result.kind);
+        assertTrue(result.message.startsWith("Error saving tasks: disk full"));
+        assertEquals(result.message.indexOf("disk full"), result.message.lastIndexOf("disk full"));
+        assertEquals("", printed.toString(), "Storage should leave showing the error to the front end");
+        assertEquals(CommandResult.Kind.TASK_LIST, failingEngine.execute("list").kind);
+    }
+
+    @Test
+    void execute_plainListOfMoreThanOnePage_shouldShowEveryTask() {
+        for (int i = 0; i < Parser.PAGE_SIZE + 10; i++) {
+            engine.execute("todo task " + i);
+        }
+
+        CommandResult result = engine.execute("list");
+        assertEquals(CommandResult.Kind.TASK_LIST, result.kind);
+        assertTrue(result.rangeStart < 0);
+        assertEquals(Parser.PAGE_SIZE + 10, result.tasks.size());
+
+        CommandResult page = engine.execute("list --page 2");
+        assertEquals(Parser.PAGE_SIZE, page.rangeStart);
+        assertEquals(2 * Parser.PAGE_SIZE, page.rangeEnd);
+    }
+}
@@ -0,0 +1,188 @@
+package joko.parser;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+class ParserTest {
+
+    @Test
+    void getCommandType_shouldReturnLowercaseKeyword() {
+        assertEquals("list", Parser.getCommandType("list"));
+        assertEquals("deadline", Parser.getCommandType("DeadLine report /by 1/1/2026 1200"));
+        assertEquals("foo", Parser.getCommandType("FOO bar"));
+        assertSame(Parser.getCommandType("todo a"), Parser.getCommandType("TODO b"));
+    }
+
+    @Test
+    void parseIndexCommand_shouldReturnZeroBasedIndex() {
+        assertEquals(1, Parser.parseIndexCommand("mark 2", "mark").index);
+        assertEquals(11, Parser.parseIndexCommand("delete   12 ", "delete").index);
+    }
+
+    @Test
+    void parseIndexCommand_withMissingOrInvalidNumber_shouldThrow() {
+        assertThrows(NumberFormatException.class, () -> Parser.parseIndexCommand("mark", "mark"));
+        assertThrows(NumberFormatException.class, () -> Parser.parseIndexCommand("mark ", "mark"));
+        assertThrows(NumberFormatException.class, () -> Parser.parseIndexCommand("mark two", "mark"));
+    }
+
+    @Test
+    void parseList_shouldParseRangesAndPages() {
+        assertEquals(-1, Parser.parseList("list").rangeStart);
+        Parser.Command range = Parser.parseList("list 200-300");
+        assertEquals(199, range.rangeStart);
+        assertEquals(300, range.rangeEnd);
+        Parser.Command page = Parser.parseList("list --page 5");
+        assertEquals(4 * Parser.PAGE_SIZE, page.rangeStart);
+        assertEquals(5 * Parser.PAGE_SIZE, page.rangeEnd);
+    }
+
+    @Test
+    void parseList_withInvalidRange_shouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> Parser.parseList("list 5"));
+        assertThrows(IllegalArgumentException.class, () -> Parser.parseList("list 10-2"));
+        assertThrows(IllegalArgumentException.class, () -> Parser.parseList("list 0-2"));
+        assertThrows(IllegalArgumentException.class, () -> Parser.parseList("list --page 0"));
+        assertThrows(IllegalArgumentException.class, () -> Parser.parseList("list --page x"));
+    }
+
+    @Test
+    void parseTodo_shouldTrimDescription() {
+        assertEquals("borrow book", Parser.parseTodo("todo   borrow book  ").desc);
+        assertThrows(IllegalArgumentException.class, () -> Parser.parseTodo("todo "));
+        assertThrows(IllegalArgumentException.class, () -> Parser.parseTodo("todo"));
+    }
+
+    @Test
+    void parseDeadline_shouldParseDescriptionAndDateTime() {
+        Parser.Command cmd = Parser.parseDeadline("deadline return book /by 2/12/2019 1800");
+        assertEquals("deadline", cmd.type);
+        assertEquals("return book", cmd.desc);
+        assertEquals(LocalDateTime.of(2019, 12, 2, 18, 0), cmd.by);
+    }
+
+    @Test
+    void parseDeadline_withInvalidInput_shouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> Parser.parseDeadline("deadline return book"));
+        assertThrows(IllegalArgumentException.class, () -> Parser.parseDeadline("deadline /by 2/12/2019 1800"));
+        assertThrows(IllegalArgumentException.class, () -> Parser.parseDeadline("deadline return book /by Sunday"));
+    }
+
+    @Test
+    void parseEvent_shouldParseDescriptionAndTimes() {
+        Parser.Command cmd = Parser.parseEvent("event project meeting /from Mon 2pm /to 4pm");
+        assertEquals("project meeting", cmd.desc);
+        assertEquals("Mon 2pm", cmd.from);
+        assertEquals("4pm", cmd.to);
+        assertThrows(IllegalArgumentException.class, () -> Parser.parseEvent("event meeting /from Mon"));
+        assertThrows(IllegalArgumentException.class, () -> Parser.parseEvent("event"));
+    }
+
+    @Test
+    void parseEvent_shouldShareRepeatedTimes() {
+        Parser.Command first = Parser.parseEvent("event yoga /from Monday /to 8pm");
+        Parser.Command second = Parser.parseEvent("event yoga class /from  Monday /to 8pm ");
+        assertSame(first.from, second.from);
+        assertSame(first.to, second.to);
+    }
+
+    @Test
+    void parseFind_shouldReturnKeyword() {
+        assertEquals("book", Parser.parseFind("find  book ").desc);
+        assertThrows(IllegalArgumentException.class, () -> Parser.parseFind("find "));
+    }
+
+    @Test
+    void parseIndexCommand_withBulkForms_shouldParseSelection() {
+        Parser.Command range = Parser.parseIndexCommand("mark 1-500", "mark");
+        assertTrue(range.isBulk());
+        assertEquals(0, range.rangeStart);
+        assertEquals(500, range.rangeEnd);
+
+        assertArrayEquals(new int[] {2, 6, 8}, Parser.parseIndexCommand("delete 9, 3,7,3", "delete").positions(9));
+        assertArrayEquals(new int[] {0, 1, 2, 4}, Parser.parseIndexCommand("delete 1-3,5", "delete").positions(5));
+        assertArrayEquals(new int[] {0, 1, 2, 3}, Parser.parseIndexCommand("delete 3-4,1-3", "delete").positions(4));
+        assertTrue(Parser.parseIndexCommand("delete --done", "delete").isDoneOnly);
+        assertEquals("book", Parser.parseIndexCommand("mark --find book", "mark").desc);
+        assertFalse(Parser.parseIndexCommand("mark 2", "mark").isBulk());
+    }
+
+    @Test
+    void parseIndexCommand_withHugeRangeInList_shouldNotExpandBeforeCheck() {
+        Parser.Command cmd = Parser.parseIndexCommand("delete 1,1-2000000000", "delete");
+        assertArrayEquals(new int[] {0, 2000000000}, cmd.ranges);
+        assertThrows(IndexOutOfBoundsException.class, () -> cmd.positions(10));
+        assertThrows(IndexOutOfBoundsException.class, () -> Parser.parseIndexCommand("delete 3,5", "delete")
+                .positions(4));
+    }
+
+    @Test
+    void parseIndexCommand_withInvalidBulkForms_shouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> Parser.parseIndexCommand("mark 5-2", "mark"));
+        assertThrows(IllegalArgumentException.class, () -> Parser.parseIndexCommand("mark 0,2", "mark"));
+        assertThrows(IllegalArgumentException.class, () -> Parser.parseIndexCommand("mark --find", "mark"));
+        assertThrows(IllegalArgumentException.class, () -> Parser.parseIndexCommand("mark --all", "mark"));
+    }
+
+    @Test
+    void parseDue_shouldParseBounds() {
+        Parser.Command before = Parser.parseDue("due before 20/10/2026 1800");
+        assertEquals("before", before.desc);
+        assertNull(before.start);
+        assertEquals(LocalDateTime.of(2026, 10, 20, 18, 0), before.end);
+
+        Parser.Command between = Parser.parseDue("due between 1/10/2026 0000 and 7/10/2026 2359");
+        assertEquals("between", between.desc);
+        assertEquals(LocalDateTime.of(2026, 10, 1, 0, 0), between.start);
+        assertEquals(LocalDateTime.of(2026, 10, 7, 23, 59), between.end);
+    }
+
+    @Test
+    void parseDue_withInvalidInput_shouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> Parser.parseDue("due"));
+        assertThrows(IllegalArgumentException.class, () -> Parser.parseDue("due soon 1/1/2026 1200"));
+        assertThrows(IllegalArgumentException.class, () -> Parser.parseDue("due after tomorrow"));
+        assertThrows(IllegalArgumentException.class,
+                () -> Parser.parseDue("due between 2/1/2026 1200 and 1/1/2026 1200"));
+    }
+
+    @Test
+    void parseEvent_withStructuredTimes_shouldParseStartAndEnd() {
+        Parser.Command cmd = Parser.parseEvent("event demo /from 19/10/2026 1400 /to 19/10/2026 1600");
+        assertEquals(LocalDateTime.of(2026, 10, 19, 14, 0), cmd.start);
+        assertEquals(LocalDateTime.of(2026, 10, 19, 16, 0), cmd.end);
+        assertNull(Parser.parseEvent("event drink /from 8pm /to 2pm").start);
+        assertThrows(IllegalArgumentException.class,
+                () -> Parser.parseEvent("event demo /from 19/10/2026 1600 /to 19/10/2026 1400"));
+    }
+
+    @Test
+    void parseTimeOrNull_shouldAgreeWithLocalDateTimeParse() {
+        for (String text : new String[] {"19/10/2026 1400", "1/2/2026 0000", "31/4/2026 1200", "29/2/2024 2359"}) {
+            assertEquals(LocalDateTime.parse(text, Parser.INPUT_FORMAT), Parser.parseTimeOrNull(text), text);
+        }
+        for (String text : new String[] {null, "", "Mon 2pm", "2pm", "19/10/2026", "19/10/2026 1400 ",
+                "19-10-2026 1400", "32/1/2026 1200", "1/13/2026 1200", "1/1/2026 2460", "1/1/2026 2500"}) {
+            assertNull(Parser.parseTimeOrNull(text), text);
+        }
+    }
+
+    @Test
+    void parseOnAndFree_shouldParseRanges() {
+        Parser.Command on = Parser.parseOn("on 19/10/2026");
+        assertEquals(LocalDateTime.of(2026, 10, 19, 0, 0), on.start);
+        assertEquals(LocalDateTime.of(2026, 10, 20, 0, 0), on.end);
+
+        Parser.Command free = Parser.parseFree("free between 19/10/2026 0900 and 19/10/2026 1800");
+        assertEquals(LocalDateTime.of(2026, 10, 19, 9, 0), free.start);
+        assertEquals(LocalDateTime.of(2026, 10, 19, 18, 0), free.end);
+        assertEquals(on.end, Parser.parseFree("free 19/10/2026").end);
+
+        assertThrows(IllegalArgumentException.class, () -> Parser.parseOn("on"));
+        assertThrows(IllegalArgumentException.class, () -> Parser.parseOn("on tomorrow"));
+        assertThrows(IllegalArgumentException.class,
+                () -> Parser.parseFree("free between 19/10/2026 0900 and 19/10/2026 0900"));
+    }
+}
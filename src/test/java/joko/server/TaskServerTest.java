@@ -0,0 +1,100 @@
+package joko.server;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import joko.storage.Storage;
+import joko.task.ConcurrentTaskList;
+import joko.task.Task;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+class TaskServerTest {
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private ConcurrentTaskList taskList;
+    private TaskServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Storage nullStorage = new Storage("unused") {
+            @Override
+            public void saveTasks(List<Task> tasks) {
+            }
+        };
+        taskList = new ConcurrentTaskList(new ArrayList<>(), nullStorage);
+        server = new TaskServer(taskList, 0);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+    }
+
+    private HttpResponse<String> send(String method, String path, String body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + server.getPort() + path))
+                .method(method, body == null ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    @Test
+    void addFindMarkDelete_shouldActOnTaskList() throws Exception {
+        HttpResponse<String> added = send("POST", "/tasks", "{\"type\": \"todo\", \"desc\": \"read \\\"book\\\"\"}");
+        assertEquals(201, added.statusCode());
+        assertEquals("{\"id\":1,\"type\":\"todo\",\"done\":false,\"desc\":\"read \\\"book\\\"\"}", added.body());
+        assertEquals(201, send("POST", "/tasks",
+                "{\"type\":\"deadline\",\"desc\":\"report\",\"by\":\"2/12/2026 1800\"}").statusCode());
+        assertEquals(409, send("POST", "/tasks", "{\"type\":\"todo\",\"desc\":\"read \\\"book\\\"\"}").statusCode());
+
+        HttpResponse<String> found = send("GET", "/tasks?find=report", null);
+        assertEquals("{\"tasks\":[{\"id\":2,\"type\":\"deadline\",\"done\":false,\"desc\":\"report\","
+                + "\"by\":\"2026-12-02T18:00\"}]}", found.body());
+
+        assertEquals(200, send("POST", "/tasks/1/mark", null).statusCode());
+        assertTrue(taskList.getTaskById(1).isDone());
+        assertEquals(200, send("DELETE", "/tasks/1", null).statusCode());
+        assertEquals(1, taskList.size());
+        assertEquals(404, send("GET", "/tasks/1", null).statusCode());
+    }
+
+    @Test
+    void invalidRequests_shouldReturnErrors() throws Exception {
+        assertEquals(400, send("POST", "/tasks", "{\"type\":\"todo\"}").statusCode());
+        assertEquals(400, send("POST", "/tasks",
+                "{\"type\":\"deadline\",\"desc\":\"x\",\"by\":\"soon\"}").statusCode());
+        assertEquals(400, send("POST", "/tasks", "not json").statusCode());
+        assertEquals(404, send("POST", "/tasks/abc/mark", null).statusCode());
+        assertEquals(405, send("PUT", "/tasks", "{}").statusCode());
+        assertEquals(0, taskList.size());
+    }
+
+    @Test
+    void addTask_withControlCharacters_shouldBeRejected() throws Exception {
+        assertEquals(400, send("POST", "/tasks", "{\"type\":\"todo\",\"desc\":\"a\\nb\"}").statusCode());
+        assertEquals(400, send("POST", "/tasks", "{\"type\":\"todo\",\"desc\":\"a\\rb\"}").statusCode());
+        assertEquals(400, send("POST", "/tasks",
+                "{\"type\":\"event\",\"desc\":\"x\",\"from\":\"2pm\\n\",\"to\":\"4\\u0000pm\"}").statusCode());
+        assertEquals(201, send("POST", "/tasks", "{\"type\":\"todo\",\"desc\":\" a b \\n\"}").statusCode());
+        assertEquals("a b", taskList.getTasks().get(0).getDesc());
+    }
+
+    @Test
+    void parseObject_shouldReadFlatObjects() {
+        Map<String, String> fields = Json.parseObject(" {\"a\": \"x\\ny\\u00e9\", \"n\": 12, \"b\":true} ");
+        assertEquals(Map.of("a", "x\nyé", "n", "12", "b", "true"), fields);
+        assertTrue(Json.parseObject("{}").isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> Json.parseObject("{\"a\": \"x\""));
+        assertThrows(IllegalArgumentException.class, () -> Json.parseObject("{\"a\": 1} extra"));
+    }
+}
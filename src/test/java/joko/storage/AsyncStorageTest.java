@@ -0,0 +1,61 @@
+package joko.storage;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import joko.task.TaskList;
+import joko.task.ToDo;
+
+import java.io.File;
+import java.io.IOException;
+
+class AsyncStorageTest {
+
+    private String filename;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        File file = File.createTempFile("joko-async", ".txt");
+        file.delete();
+        file.deleteOnExit();
+        filename = file.getPath();
+    }
+
+    @Test
+    void flush_shouldWriteAllPendingChanges() {
+        AsyncStorage storage = new AsyncStorage(new Storage(filename), 60_000, 1_000);
+        TaskList taskList = new TaskList(storage.loadTasks(), storage);
+        for (int i = 0; i < 50; i++) {
+            taskList.addTask(new ToDo("task " + i));
+        }
+        taskList.markTask(10, true);
+        taskList.deleteTask(0);
+
+        assertFalse(new File(filename).exists(), "Writes should be deferred until the delay passes");
+        storage.flush();
+        assertEquals(taskList.getTasks(), new Storage(filename).loadTasks());
+        assertTrue(new Storage(filename).loadTasks().get(9).isDone());
+        storage.close();
+    }
+
+    @Test
+    void recordAdd_atMaxBatch_shouldWriteWithoutFlush() throws InterruptedException {
+        AsyncStorage storage = new AsyncStorage(new Storage(filename), 60_000, 5);
+        TaskList taskList = new TaskList(storage.loadTasks(), storage);
+        for (int i = 0; i < 5; i++) {
+            taskList.addTask(new ToDo("task " + i));
+        }
+
+        for (int i = 0; i < 100 && new Storage(filename).loadTasks().size() < 5; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(5, new Storage(filename).loadTasks().size());
+        storage.close();
+    }
+
+    @Test
+    void constructor_withIncrementalStorage_shouldBeRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new AsyncStorage(new JournalStorage(filename)));
+        assertThrows(IllegalArgumentException.class, () -> new AsyncStorage(new PatchingStorage(filename)));
+    }
+}
@@ -0,0 +1,125 @@
+package joko.storage;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import joko.task.Deadline;
+import joko.task.Event;
+import joko.task.Task;
+import joko.task.ToDo;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+class BinaryStorageTest {
+
+    private String textFile;
+    private String binaryFile;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        File file = File.createTempFile("joko-binary", ".txt");
+        file.deleteOnExit();
+        textFile = file.getPath();
+        binaryFile = textFile.replace(".txt", BinaryStorage.EXTENSION);
+        new File(binaryFile).deleteOnExit();
+    }
+
+    private static ArrayList<Task> sampleTasks() {
+        ArrayList<Task> tasks = new ArrayList<>();
+        tasks.add(new ToDo("read book"));
+        Deadline deadline = new Deadline("submit report", LocalDateTime.of(2025, 9, 19, 18, 0));
+        deadline.setDone(true);
+        tasks.add(deadline);
+        tasks.add(new Event("café meeting", "Mon 2pm", "4pm"));
+        return tasks;
+    }
+
+    @Test
+    void loadTasks_shouldReturnSavedTasks() {
+        ArrayList<Task> tasks = sampleTasks();
+        new BinaryStorage(binaryFile).saveTasks(tasks);
+
+        ArrayList<Task> loaded = new BinaryStorage(binaryFile).loadTasks();
+        assertEquals(tasks, loaded);
+        assertFalse(loaded.get(0).isDone());
+        assertTrue(loaded.get(1).isDone());
+    }
+
+    @Test
+    void loadTasks_withTextFile_shouldRefuseToLoad() {
+        new Storage(textFile).saveTasks(sampleTasks());
+        assertThrows(UncheckedIOException.class, () -> new BinaryStorage(textFile).loadTasks());
+    }
+
+    @Test
+    void loadTasks_withTruncatedFile_shouldRefuseToLoad() throws IOException {
+        new BinaryStorage(binaryFile).saveTasks(sampleTasks());
+        Path path = Paths.get(binaryFile);
+        byte[] bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 5));
+
+        assertThrows(UncheckedIOException.class, () -> new BinaryStorage(binaryFile).loadTasks());
+    }
+
+    @Test
+    void create_withBinaryFormat_shouldConvertExistingTextFile() {
+        new Storage(textFile).saveTasks(sampleTasks());
+        new File(binaryFile).delete();
+        System.setProperty("joko.storage.format", "binary");
+        try {
+            Storage storage = Storage.create(textFile);
+            assertTrue(storage instanceof BinaryStorage);
+            assertEquals(sampleTasks(), storage.loadTasks());
+        } finally {
+            System.clearProperty("joko.storage.format");
+        }
+    }
+
+    @Test
+    void create_withBinaryFormatInDottedDirectory_shouldReplaceOnlyFileExtension() throws IOException {
+        Path dir = Files.createTempDirectory("joko.v2");
+        Path text = dir.resolve("tasks");
+        new Storage(text.toString()).saveTasks(sampleTasks());
+        System.setProperty("joko.storage.format", "binary");
+        try {
+            Storage storage = Storage.create(text.toString());
+            assertEquals(sampleTasks(), storage.loadTasks());
+            assertTrue(Files.exists(dir.resolve("tasks" + BinaryStorage.EXTENSION)));
+        } finally {
+            System.clearProperty("joko.storage.format");
+            Files.deleteIfExists(dir.resolve("tasks" + BinaryStorage.EXTENSION));
+            Files.deleteIfExists(text);
+            Files.deleteIfExists(dir);
+        }
+    }
+
+    @Test
+    void convert_whenTargetCannotBeWritten_shouldThrow() {
+        new Storage(textFile).saveTasks(sampleTasks());
+        String target = textFile + ".missing" + File.separator + "tasks" + BinaryStorage.EXTENSION;
+
+        assertThrows(UncheckedIOException.class, () -> StorageConverter.convert(textFile, target));
+    }
+
+    @Test
+    void convert_bothWays_shouldBeLossless() {
+        ArrayList<Task> tasks = sampleTasks();
+        new Storage(textFile).saveTasks(tasks);
+
+        assertEquals(3, StorageConverter.convert(textFile, binaryFile));
+        new File(textFile).delete();
+        assertEquals(3, StorageConverter.convert(binaryFile, textFile));
+
+        ArrayList<Task> roundTripped = new Storage(textFile).loadTasks();
+        assertEquals(tasks, roundTripped);
+        assertTrue(roundTripped.get(1).isDone());
+    }
+}
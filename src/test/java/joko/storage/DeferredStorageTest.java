@@ -0,0 +1,38 @@
+package joko.storage;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import joko.task.TaskList;
+import joko.task.ToDo;
+
+import java.io.File;
+import java.io.IOException;
+
+class DeferredStorageTest {
+
+    private String filename;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        File file = File.createTempFile("joko-deferred", ".txt");
+        file.delete();
+        file.deleteOnExit();
+        filename = file.getPath();
+    }
+
+    @Test
+    void close_shouldWriteOnlyOnceAtTheEnd() {
+        DeferredStorage storage = new DeferredStorage(new Storage(filename));
+        TaskList taskList = new TaskList(storage.loadTasks(), storage);
+        for (int i = 0; i < 20; i++) {
+            taskList.addTask(new ToDo("task " + i));
+        }
+        taskList.markTasks(new int[] {1, 2}, true);
+        taskList.deleteTask(0);
+
+        assertFalse(new File(filename).exists(), "Nothing should be written before close");
+        storage.close();
+        assertEquals(taskList.getTasks(), new Storage(filename).loadTasks());
+    }
+}
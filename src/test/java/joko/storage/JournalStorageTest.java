@@ -0,0 +1,142 @@
+package joko.storage;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import joko.task.Deadline;
+import joko.task.Event;
+import joko.task.TaskList;
+import joko.task.ToDo;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+class JournalStorageTest {
+
+    private String filename;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        File file = File.createTempFile("joko-journal", ".txt");
+        file.delete();
+        file.deleteOnExit();
+        new File(file.getPath() + ".log").deleteOnExit();
+        filename = file.getPath();
+    }
+
+    @Test
+    void loadTasks_shouldReplayJournalOverSnapshot() {
+        JournalStorage storage = new JournalStorage(filename);
+        TaskList taskList = new TaskList(storage.loadTasks(), storage);
+        taskList.addTask(new ToDo("read book"));
+        taskList.addTask(new Deadline("submit report", LocalDateTime.of(2025, 9, 19, 18, 0)));
+        taskList.addTask(new Event("meeting", "10:00", "12:00"));
+        taskList.markTask(1, true);
+        taskList.deleteTask(0);
+
+        assertFalse(new File(filename).exists(), "No snapshot should be written before compaction");
+        assertEquals(5, storage.getRecordCount());
+
+        ArrayList<?> reloaded = new JournalStorage(filename).loadTasks();
+        assertEquals(taskList.getTasks(), reloaded);
+        assertTrue(((Deadline) reloaded.get(0)).isDone());
+    }
+
+    @Test
+    void append_overThreshold_shouldCompactIntoSnapshot() {
+        JournalStorage storage = new JournalStorage(filename, 2);
+        TaskList taskList = new TaskList(storage.loadTasks(), storage);
+        taskList.addTask(new ToDo("a"));
+        taskList.addTask(new ToDo("b"));
+        taskList.addTask(new ToDo("c"));
+
+        assertEquals(0, storage.getRecordCount());
+        assertEquals(3, new Storage(filename).loadTasks().size());
+        assertEquals(taskList.getTasks(), new JournalStorage(filename).loadTasks());
+    }
+
+    @Test
+    void bulkChanges_shouldAppendOneRecordPerTaskAndReplay() {
+        JournalStorage storage = new JournalStorage(filename);
+        TaskList taskList = new TaskList(storage.loadTasks(), storage);
+        for (String desc : new String[] {"a", "b", "c", "d", "e"}) {
+            taskList.addTask(new ToDo(desc));
+        }
+        taskList.markTasks(new int[] {1, 3, 4}, true);
+        taskList.deleteTasks(new int[] {0, 3});
+
+        assertEquals(10, storage.getRecordCount());
+        assertEquals(taskList.getTasks(), new JournalStorage(filename).loadTasks());
+    }
+
+    @Test
+    void loadTasks_afterCrashBeforeJournalCleared_shouldNotReplayOldJournal() throws IOException {
+        JournalStorage storage = new JournalStorage(filename);
+        TaskList taskList = new TaskList(storage.loadTasks(), storage);
+        for (String desc : new String[] {"a", "b", "c"}) {
+            taskList.addTask(new ToDo(desc));
+        }
+        taskList.deleteTask(0);
+        taskList.markTask(0, true);
+        Path log = Paths.get(filename + ".log");
+        byte[] oldJournal = Files.readAllBytes(log);
+
+        storage.saveTasks(taskList.getTasks());
+        Files.write(log, oldJournal);
+
+        assertEquals(taskList.getTasks(), new JournalStorage(filename).loadTasks());
+    }
+
+    @Test
+    void loadTasks_withTruncatedRecord_shouldKeepEarlierRecordsAndAppendAfterThem() throws IOException {
+        JournalStorage storage = new JournalStorage(filename);
+        TaskList taskList = new TaskList(storage.loadTasks(), storage);
+        taskList.addTask(new ToDo("a"));
+        taskList.addTask(new ToDo("b"));
+        Path log = Paths.get(filename + ".log");
+        byte[] bytes = Files.readAllBytes(log);
+        Files.write(log, Arrays.copyOf(bytes, bytes.length - 3));
+
+        JournalStorage reloaded = new JournalStorage(filename);
+        TaskList reloadedList = new TaskList(reloaded.loadTasks(), reloaded);
+        reloadedList.addTask(new ToDo("c"));
+
+        assertEquals(List.of(new ToDo("a"), new ToDo("c")), new JournalStorage(filename).loadTasks());
+    }
+
+    @Test
+    void loadTasks_withTornMarkRecord_shouldNotApplyIt() throws IOException {
+        JournalStorage storage = new JournalStorage(filename);
+        TaskList taskList = new TaskList(storage.loadTasks(), storage);
+        taskList.addTask(new ToDo("a"));
+        taskList.markTask(0, true);
+        Path log = Paths.get(filename + ".log");
+        Files.writeString(log, Files.readString(log) + "M | 1 | \n");
+
+        ArrayList<?> reloaded = new JournalStorage(filename).loadTasks();
+
+        assertEquals(1, reloaded.size());
+        assertTrue(((ToDo) reloaded.get(0)).isDone());
+    }
+
+    @Test
+    void loadTasks_withAddRecordCutInsideDescription_shouldNotAddShortenedTask() throws IOException {
+        JournalStorage storage = new JournalStorage(filename);
+        TaskList taskList = new TaskList(storage.loadTasks(), storage);
+        taskList.addTask(new ToDo("a"));
+        Path log = Paths.get(filename + ".log");
+        String before = Files.readString(log);
+        taskList.addTask(new ToDo("fix # tag in report"));
+        String after = Files.readString(log);
+        Files.writeString(log, after.substring(0, before.length() + "A | 2 | T | 0 | fix # tag".length()));
+
+        assertEquals(List.of(new ToDo("a")), new JournalStorage(filename).loadTasks());
+    }
+}
@@ -0,0 +1,86 @@
+package joko.storage;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import joko.task.Event;
+import joko.task.Task;
+import joko.task.ToDo;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+class MappedTaskLoaderTest {
+
+    private Path path;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        File file = File.createTempFile("joko-mapped", ".txt");
+        file.deleteOnExit();
+        path = file.toPath();
+    }
+
+    @Test
+    void load_shouldMatchScannerLoader() throws IOException {
+        Files.writeString(path, "T | 1 | swim\r\n"
+                + "D | 0 | submit report | 19/09/2025 1800\n"
+                + "E | 0 | café | 8pm | 2pm\n"
+                + "T | 0 | eat swim", StandardCharsets.UTF_8);
+
+        ArrayList<Task> mapped = MappedTaskLoader.load(path);
+        ArrayList<Task> scanned = new Storage(path.toString()).loadTasks();
+        assertEquals(scanned, mapped);
+        assertEquals(4, mapped.size());
+        for (int i = 0; i < mapped.size(); i++) {
+            assertEquals(scanned.get(i).toString(), mapped.get(i).toString());
+        }
+    }
+
+    @Test
+    void load_withInvalidDeadline_shouldThrow() throws IOException {
+        Files.writeString(path, "T | 1 | swim\nD | 0 | report | tomorrow\n", StandardCharsets.UTF_8);
+        assertThrows(IllegalArgumentException.class, () -> MappedTaskLoader.load(path));
+    }
+
+    @Test
+    void loadTasks_withCorruptFile_shouldRefuseToLoadEitherWay() throws IOException {
+        String content = "T | 1 | swim\nD | 0 | report | tomorrow\nT | 0 | read book\n";
+        Files.writeString(path, content, StandardCharsets.UTF_8);
+
+        Storage mapped = new Storage(path.toString());
+        mapped.setMemoryMapped(true);
+        assertThrows(UncheckedIOException.class, mapped::loadTasks);
+        assertThrows(UncheckedIOException.class, () -> new Storage(path.toString()).loadTasks());
+        assertEquals(content, Files.readString(path, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void loadTasks_whenMemoryMapped_shouldReturnSavedTasks() {
+        Storage storage = new Storage(path.toString());
+        ArrayList<Task> tasks = new ArrayList<>();
+        tasks.add(new ToDo("read book"));
+        storage.saveTasks(tasks);
+
+        storage.setMemoryMapped(true);
+        assertEquals(tasks, storage.loadTasks());
+    }
+
+    @Test
+    void load_shouldShareRepeatedEventTimes() throws IOException {
+        Files.writeString(path, "E | 0 | lecture | Monday | 8pm\nE | 1 | lecture | Monday | 8pm\n",
+                StandardCharsets.UTF_8);
+
+        ArrayList<Task> mapped = MappedTaskLoader.load(path);
+        ArrayList<Task> scanned = new Storage(path.toString()).loadTasks();
+        Event first = (Event) mapped.get(0);
+        assertSame(first.getFrom(), ((Event) mapped.get(1)).getFrom());
+        assertSame(first.getDesc(), ((Event) scanned.get(1)).getDesc());
+        assertSame(first.getTo(), ((Event) scanned.get(0)).getTo());
+    }
+}
@@ -0,0 +1,173 @@
+package joko.storage;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import joko.task.Deadline;
+import joko.task.Event;
+import joko.task.TaskList;
+import joko.task.ToDo;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.List;
+
+class PatchingStorageTest {
+
+    private String filename;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        File file = File.createTempFile("joko-patch", ".txt");
+        file.delete();
+        file.deleteOnExit();
+        filename = file.getPath();
+    }
+
+    private String readFile() throws IOException {
+        return Files.readString(Paths.get(filename), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void markTask_shouldWriteOneByte() throws IOException {
+        PatchingStorage storage = new PatchingStorage(filename);
+        TaskList taskList = new TaskList(storage.loadTasks(), storage);
+        taskList.addTask(new ToDo("read book"));
+        taskList.addTask(new Deadline("submit report", LocalDateTime.of(2025, 9, 19, 18, 0)));
+        taskList.addTask(new Event("meeting", "10:00", "12:00"));
+        long before = storage.getBytesWritten();
+
+        taskList.markTask(1, true);
+
+        assertEquals(1, storage.getBytesWritten() - before);
+        assertEquals("T | 0 | read book\nD | 1 | submit report | 19/09/2025 1800\nE | 0 | meeting | 10:00 | 12:00\n",
+                readFile());
+        assertEquals(taskList.getTasks(), new Storage(filename).loadTasks());
+    }
+
+    @Test
+    void addTask_shouldAppendOneRecord() throws IOException {
+        PatchingStorage storage = new PatchingStorage(filename);
+        TaskList taskList = new TaskList(storage.loadTasks(), storage);
+        taskList.addTask(new ToDo("read book"));
+        long before = storage.getBytesWritten();
+
+        taskList.addTask(new ToDo("swim"));
+
+        assertEquals("T | 0 | swim\n".length(), storage.getBytesWritten() - before);
+        assertEquals("T | 0 | read book\nT | 0 | swim\n", readFile());
+    }
+
+    @Test
+    void deleteTask_shouldLeaveTombstoneThatLoadersSkip() throws IOException {
+        PatchingStorage storage = new PatchingStorage(filename);
+        TaskList taskList = new TaskList(storage.loadTasks(), storage);
+        taskList.addTask(new ToDo("a"));
+        taskList.addTask(new ToDo("b"));
+        taskList.addTask(new ToDo("c"));
+        long before = storage.getBytesWritten();
+
+        taskList.deleteTask(0);
+        taskList.markTask(1, true);
+
+        assertEquals(2, storage.getBytesWritten() - before);
+        assertEquals("X | 0 | a\nT | 0 | b\nT | 1 | c\n", readFile());
+        assertEquals(taskList.getTasks(), new Storage(filename).loadTasks());
+        Storage mapped = new Storage(filename);
+        mapped.setMemoryMapped(true);
+        assertEquals(taskList.getTasks(), mapped.loadTasks());
+        assertEquals(taskList.getTasks(), new PatchingStorage(filename).loadTasks());
+    }
+
+    @Test
+    void deleteTasks_overLiveCount_shouldCompact() throws IOException {
+        PatchingStorage storage = new PatchingStorage(filename);
+        TaskList taskList = new TaskList(storage.loadTasks(), storage);
+        for (String desc : new String[] {"a", "b", "c", "d"}) {
+            taskList.addTask(new ToDo(desc));
+        }
+
+        taskList.deleteTasks(new int[] {0, 2});
+        assertEquals(2, storage.getTombstoneCount());
+        taskList.deleteTask(0);
+
+        assertEquals(0, storage.getTombstoneCount());
+        assertEquals("T | 0 | d\n", readFile());
+        taskList.markTask(0, true);
+        assertEquals("T | 1 | d\n", readFile());
+    }
+
+    @Test
+    void close_shouldCompactTombstones() throws IOException {
+        PatchingStorage storage = new PatchingStorage(filename);
+        TaskList taskList = new TaskList(storage.loadTasks(), storage);
+        taskList.addTask(new ToDo("a"));
+        taskList.addTask(new ToDo("b"));
+        taskList.addTask(new ToDo("c"));
+        taskList.deleteTask(1);
+        storage.close();
+
+        assertEquals("T | 0 | a\nT | 0 | c\n", readFile());
+    }
+
+    @Test
+    void loadTasks_withoutTrailingNewline_shouldCutLastLineAsTorn() throws IOException {
+        Files.writeString(Paths.get(filename), "T | 1 | a\r\nT | 0 | b", StandardCharsets.UTF_8);
+        PatchingStorage storage = new PatchingStorage(filename);
+        TaskList taskList = new TaskList(storage.loadTasks(), storage);
+
+        taskList.addTask(new ToDo("c"));
+        taskList.markTask(1, true);
+
+        assertEquals("T | 1 | a\r\nT | 1 | c\n", readFile());
+    }
+
+    @Test
+    void loadTasks_withAppendCutInsideDescription_shouldNotKeepShortenedTask() throws IOException {
+        PatchingStorage storage = new PatchingStorage(filename);
+        TaskList taskList = new TaskList(storage.loadTasks(), storage);
+        taskList.addTask(new ToDo("read book"));
+        taskList.addTask(new ToDo("submit report"));
+        storage.close();
+        String content = readFile();
+        Files.writeString(Paths.get(filename), content.substring(0, content.length() - 5), StandardCharsets.UTF_8);
+
+        assertEquals(List.of(new ToDo("read book")), new PatchingStorage(filename).loadTasks());
+        assertEquals("T | 0 | read book\n", readFile());
+    }
+
+    @Test
+    void loadTasks_withTruncatedLastRecord_shouldCutItOff() throws IOException {
+        PatchingStorage storage = new PatchingStorage(filename);
+        TaskList taskList = new TaskList(storage.loadTasks(), storage);
+        taskList.addTask(new ToDo("read book"));
+        taskList.addTask(new Deadline("submit report", LocalDateTime.of(2025, 9, 19, 18, 0)));
+        storage.close();
+        String content = readFile();
+        Files.writeString(Paths.get(filename), content.substring(0, content.length() - 8), StandardCharsets.UTF_8);
+
+        PatchingStorage reloaded = new PatchingStorage(filename);
+        TaskList reloadedList = new TaskList(reloaded.loadTasks(), reloaded);
+        reloadedList.addTask(new ToDo("swim"));
+        reloaded.close();
+
+        assertEquals("T | 0 | read book\nT | 0 | swim\n", readFile());
+    }
+
+    @Test
+    void loadTasks_withUnreadableMiddleRecord_shouldSkipIt() throws IOException {
+        Files.writeString(Paths.get(filename), "T | 0 | read book\nD | 0 | report | 02/1\nT | 1 | swim\n",
+                StandardCharsets.UTF_8);
+
+        PatchingStorage storage = new PatchingStorage(filename);
+        TaskList taskList = new TaskList(storage.loadTasks(), storage);
+        taskList.markTask(1, false);
+
+        assertEquals(2, taskList.size());
+        assertEquals("T | 0 | read book\nD | 0 | report | 02/1\nT | 0 | swim\n", readFile());
+    }
+}
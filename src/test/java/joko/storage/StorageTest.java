@@ -0,0 +1,84 @@
+package joko.storage;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import joko.task.Task;
+import joko.task.TaskList;
+import joko.task.ToDo;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.List;
+
+class StorageTest {
+
+    private String filename;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        File file = File.createTempFile("joko-storage", ".txt");
+        file.delete();
+        file.deleteOnExit();
+        filename = file.getPath();
+    }
+
+    @Test
+    void saveTasks_failingMidway_shouldKeepPreviousFile() {
+        Storage storage = new Storage(filename);
+        storage.saveTasks(List.of(new ToDo("read book"), new ToDo("swim")));
+        List<Task> failing = new AbstractList<>() {
+            @Override
+            public Task get(int index) {
+                if (index == 1) {
+                    throw new IllegalStateException("crash");
+                }
+                return new ToDo("replacement");
+            }
+
+            @Override
+            public int size() {
+                return 2;
+            }
+        };
+
+        assertThrows(IllegalStateException.class, () -> storage.saveTasks(failing));
+
+        assertEquals(List.of(new ToDo("read book"), new ToDo("swim")), new Storage(filename).loadTasks());
+        assertFalse(new File(filename + ".tmp").exists());
+    }
+
+    @Test
+    void saveTasks_atEveryDurability_shouldWriteSameTasks() {
+        for (Durability durability : Durability.values()) {
+            Storage storage = new Storage(filename);
+            storage.setDurability(durability);
+            TaskList taskList = new TaskList(storage.loadTasks(), storage);
+            taskList.addTask(new ToDo("task " + durability));
+            storage.close();
+
+            assertEquals(taskList.getTasks(), new Storage(filename).loadTasks(), durability.name());
+            assertFalse(new File(filename + ".tmp").exists());
+        }
+        assertEquals(3, new Storage(filename).loadTasks().size());
+    }
+
+    @Test
+    void binaryAndJournalStorage_shouldSaveAtomically() {
+        BinaryStorage binary = new BinaryStorage(filename);
+        binary.setDurability(Durability.EVERY_WRITE);
+        binary.saveTasks(List.of(new ToDo("read book")));
+        assertEquals(List.of(new ToDo("read book")), binary.loadTasks());
+
+        new File(filename).delete();
+        new File(filename + ".log").deleteOnExit();
+        JournalStorage journal = new JournalStorage(filename, 1);
+        journal.setDurability(Durability.EVERY_WRITE);
+        TaskList taskList = new TaskList(journal.loadTasks(), journal);
+        taskList.addTask(new ToDo("a"));
+        taskList.addTask(new ToDo("b"));
+        journal.close();
+        assertEquals(taskList.getTasks(), new JournalStorage(filename).loadTasks());
+    }
+}
@@ -0,0 +1,157 @@
+package joko.task;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+class ColumnarTaskListTest {
+
+    private static Task task(int n) {
+        switch (n % 3) {
+        case 0:
+            return new ToDo("todo " + n + " ünïcode");
+        case 1:
+            return new Deadline("deadline " + n, LocalDateTime.of(2026, 1, 1, 9, 0).plusHours(n));
+        default:
+            return n % 2 == 0
+                    ? new Event("event " + n, "Mon " + n, "Tue")
+                    : new Event("event " + n, LocalDateTime.of(2026, 1, 1, 9, 0), LocalDateTime.of(2026, 1, 1, 10, 0));
+        }
+    }
+
+    private static List<String> render(List<Task> tasks) {
+        List<String> rendered = new ArrayList<>();
+        for (Task t : tasks) {
+            rendered.add(t.toString());
+        }
+        return rendered;
+    }
+
+    @Test
+    void mutations_shouldMatchArrayList() {
+        ColumnarTaskList columns = new ColumnarTaskList(1);
+        ArrayList<Task> expected = new ArrayList<>();
+        Random random = new Random(7);
+
+        for (int step = 0; step < 3000; step++) {
+            int choice = random.nextInt(4);
+            if (expected.isEmpty() || choice == 0) {
+                Task t = task(step);
+                columns.add(t);
+                expected.add(t);
+            } else if (choice == 1) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index).toString(), columns.remove(index).toString());
+            } else if (choice == 2) {
+                int index = random.nextInt(expected.size());
+                Task t = columns.get(index);
+                t.setDone(!t.isDone());
+                expected.get(index).setDone(t.isDone());
+                columns.set(index, t);
+            } else {
+                int index = random.nextInt(expected.size());
+                Task t = task(step);
+                expected.set(index, t);
+                columns.set(index, t);
+            }
+        }
+
+        assertEquals(expected.size(), columns.size());
+        assertEquals(render(expected), render(columns));
+    }
+
+    @Test
+    void get_shouldReturnCopyWithIdThatSurvivesDeletes() {
+        ColumnarTaskList columns = new ColumnarTaskList(4);
+        columns.add(new ToDo("read"));
+        columns.add(new ToDo("write"));
+        columns.add(new ToDo("run"));
+
+        Task t = columns.get(1);
+        t.setDone(true);
+        assertFalse(columns.get(1).isDone());
+        assertNotSame(columns.get(0), columns.get(0));
+
+        columns.remove(0);
+        assertEquals(t.getId(), columns.get(0).getId());
+        assertEquals(0, columns.indexOfId(t.getId()));
+        assertEquals(1, columns.indexOfId(columns.get(1).getId()));
+        assertEquals(-1, columns.indexOfId(t.getId() - 1));
+    }
+
+    @Test
+    void set_shouldReturnPreviousTaskAndKeepId() {
+        ColumnarTaskList columns = new ColumnarTaskList(1);
+        columns.add(new ToDo("read"));
+        long id = columns.get(0).getId();
+
+        Task previous = columns.set(0, new Deadline("submit", LocalDateTime.of(2026, 1, 1, 9, 0)));
+
+        assertEquals(new ToDo("read"), previous);
+        assertEquals(id, previous.getId());
+        assertEquals("submit", columns.get(0).getDesc());
+        assertEquals(id, columns.get(0).getId());
+    }
+
+    @Test
+    void get_timedEvent_shouldKeepTimes() {
+        ColumnarTaskList columns = new ColumnarTaskList(1);
+        LocalDateTime start = LocalDateTime.of(2026, 10, 19, 14, 0);
+        columns.add(new Event("standup", start, start.plusMinutes(15)));
+
+        Event event = (Event) columns.get(0);
+
+        assertTrue(event.isTimed());
+        assertEquals(start, event.getStart());
+        assertEquals(start.plusMinutes(15), event.getEnd());
+    }
+
+    @Test
+    void removeAll_shouldRemoveInOnePass() {
+        ColumnarTaskList columns = new ColumnarTaskList(1);
+        ArrayList<Task> expected = new ArrayList<>();
+        for (int n = 0; n < 100; n++) {
+            columns.add(task(n));
+            expected.add(task(n));
+        }
+        Task last = columns.get(99);
+        last.setDone(true);
+        columns.set(99, last);
+        expected.get(99).setDone(true);
+
+        columns.removeAll(new int[] {0, 1, 50, 98});
+        expected.remove(98);
+        expected.remove(50);
+        expected.remove(1);
+        expected.remove(0);
+
+        assertEquals(render(expected), render(columns));
+        assertTrue(columns.get(95).isDone());
+    }
+
+    @Test
+    void indexOf_shouldCompareEncodedTasks() {
+        ColumnarTaskList columns = new ColumnarTaskList(1);
+        columns.add(new ToDo("read"));
+        columns.add(new Deadline("submit", LocalDateTime.of(2026, 1, 1, 9, 0)));
+        columns.add(new Event("talk", "Mon", "Tue"));
+
+        assertEquals(1, columns.indexOf(new Deadline("submit", LocalDateTime.of(2026, 1, 1, 9, 0))));
+        assertEquals(2, columns.indexOf(new Event("talk", "Mon", "Tue")));
+        assertEquals(-1, columns.indexOf(new Event("talk", "Mon", "Wed")));
+        assertFalse(columns.contains(new ToDo("write")));
+        assertFalse(columns.contains("read"));
+    }
+
+    @Test
+    void add_unsupportedType_shouldThrow() {
+        ColumnarTaskList columns = new ColumnarTaskList(1);
+
+        assertThrows(IllegalArgumentException.class, () -> columns.add(new Task("plain")));
+        assertEquals(0, columns.size());
+    }
+}
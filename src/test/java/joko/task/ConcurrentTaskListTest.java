@@ -0,0 +1,158 @@
+package joko.task;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import joko.storage.Storage;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+class ConcurrentTaskListTest {
+
+    private static final int WRITERS = 8;
+    private static final int TASKS_PER_WRITER = 500;
+
+    private static Storage nullStorage() {
+        return new Storage("unused") {
+            @Override
+            public void saveTasks(List<Task> tasks) {
+            }
+        };
+    }
+
+    private static void runAll(List<Thread> threads) throws InterruptedException {
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+    }
+
+    @Test
+    void concurrentWriters_shouldNotLoseUpdates() throws InterruptedException {
+        ConcurrentTaskList taskList = new ConcurrentTaskList(new ArrayList<>(), nullStorage());
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean isWriting = new AtomicBoolean(true);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Thread> threads = new ArrayList<>();
+
+        for (int w = 0; w < WRITERS; w++) {
+            int writer = w;
+            threads.add(new Thread(() -> {
+                try {
+                    start.await();
+                    List<Long> ids = new ArrayList<>();
+                    for (int i = 0; i < TASKS_PER_WRITER; i++) {
+                        ids.add(taskList.addTask(new ToDo("writer" + writer + " task " + i)).getId());
+                    }
+                    for (int i = 0; i < ids.size(); i++) {
+                        if (i % 2 == 0) {
+                            taskList.deleteTaskById(ids.get(i));
+                        } else {
+                            taskList.markTaskById(ids.get(i), true);
+                        }
+                    }
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            }));
+        }
+        for (int r = 0; r < 2; r++) {
+            threads.add(new Thread(() -> {
+                try {
+                    start.await();
+                    while (isWriting.get()) {
+                        List<Task> snapshot = taskList.getTasks();
+                        Set<Task> seen = new HashSet<>(snapshot);
+                        assertEquals(snapshot.size(), seen.size());
+                        for (Task t : taskList.findTasks("task")) {
+                            assertNotNull(t.toString());
+                        }
+                    }
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            }));
+        }
+
+        List<Thread> writers = threads.subList(0, WRITERS);
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        start.countDown();
+        for (Thread thread : writers) {
+            thread.join();
+        }
+        isWriting.set(false);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertNull(failure.get());
+        assertEquals(WRITERS * TASKS_PER_WRITER / 2, taskList.size());
+        for (Task t : taskList.getTasks()) {
+            assertTrue(t.isDone());
+            assertTrue(t.toString().startsWith("[T][X] "));
+        }
+        assertEquals(TASKS_PER_WRITER / 2, taskList.findTasks("writer3").size());
+    }
+
+    @Test
+    void concurrentMarks_shouldLeaveRenderingConsistent() throws InterruptedException {
+        Task task = new ToDo("flip");
+        ConcurrentTaskList taskList = new ConcurrentTaskList(List.of(task), nullStorage());
+        List<Thread> threads = new ArrayList<>();
+        for (int w = 0; w < 4; w++) {
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 2000; i++) {
+                    taskList.markTask(0, i % 2 == 0);
+                    taskList.getTasks().get(0).toString();
+                }
+            }));
+        }
+        runAll(threads);
+
+        taskList.markTask(0, true);
+        assertEquals("[T][X] flip", taskList.getTasks().get(0).toString());
+        taskList.markTask(0, false);
+        assertEquals("[T][ ] flip", taskList.getTasks().get(0).toString());
+    }
+
+    @Test
+    void getTasks_shouldReturnUnchangingSnapshot() {
+        ConcurrentTaskList taskList = new ConcurrentTaskList(new ArrayList<>(), nullStorage());
+        taskList.addTask(new ToDo("read book"));
+        List<Task> before = taskList.getTasks();
+
+        taskList.addTask(new ToDo("read news"));
+        taskList.deleteTask(0);
+
+        assertEquals(1, before.size());
+        assertEquals("read book", before.get(0).getDesc());
+        assertEquals("read news", taskList.getTasks().get(0).getDesc());
+        assertThrows(UnsupportedOperationException.class, () -> before.add(new ToDo("x")));
+    }
+
+    @Test
+    void findTasks_shouldMatchTaskList() {
+        List<Task> tasks = List.of(new ToDo("Read book"), new ToDo("reading"), new ToDo("read, then swim"));
+        TaskList plain = new TaskList(new ArrayList<>(tasks), nullStorage());
+        ConcurrentTaskList concurrent = new ConcurrentTaskList(new ArrayList<>(tasks), nullStorage());
+
+        for (TaskList.FindMode mode : TaskList.FindMode.values()) {
+            plain.setFindMode(mode);
+            concurrent.setFindMode(mode);
+            assertEquals(mode, concurrent.getFindMode());
+            for (String query : new String[] {"read", "READ swim", "ead", "!!", "book read"}) {
+                assertEquals(plain.findTasks(query), concurrent.findTasks(query), query);
+                assertArrayEquals(plain.indicesOfMatches(query), concurrent.indicesOfMatches(query));
+            }
+        }
+    }
+}
@@ -44,6 +44,15 @@ class DeadlineTest {
         assertEquals(d1, d2);
     }
 
+    @Test
+    void hashCode_shouldMatchForEqualDeadlines() {
+        LocalDateTime dt = LocalDateTime.of(2025, 9, 19, 18, 0);
+        Deadline d1 = new Deadline("submit report", dt);
+        Deadline d2 = new Deadline("submit report", LocalDateTime.of(2025, 9, 19, 18, 0));
+        d2.setDone(true);
+        assertEquals(d1.hashCode(), d2.hashCode());
+    }
+
     @Test
     void equals_shouldReturnFalseForDifferentDescription() {
         LocalDateTime dt = LocalDateTime.of(2025, 9, 19, 18, 0);
@@ -0,0 +1,102 @@
+package joko.task;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+class EventIndexTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 10, 1, 0, 0);
+
+    private static Event event(long id, int startHour, int hours) {
+        Event e = new Event("event " + id, BASE.plusHours(startHour), BASE.plusHours(startHour + hours));
+        e.setId(id);
+        return e;
+    }
+
+    @Test
+    void findOverlapping_shouldMatchBruteForce() {
+        EventIndex index = new EventIndex();
+        List<Event> events = new ArrayList<>();
+        Random random = new Random(7);
+        for (long id = 1; id <= 500; id++) {
+            Event e = event(id, random.nextInt(1000), random.nextInt(10));
+            events.add(e);
+            index.add(e);
+        }
+        for (int i = 0; i < 200; i++) {
+            Event removed = events.remove(random.nextInt(events.size()));
+            index.remove(removed);
+        }
+
+        for (int q = 0; q < 100; q++) {
+            LocalDateTime from = BASE.plusHours(random.nextInt(1000));
+            LocalDateTime to = from.plusHours(1 + random.nextInt(24));
+            List<Event> expected = new ArrayList<>();
+            for (Event e : events) {
+                if (e.getStart().isBefore(to) && e.getEnd().isAfter(from)) {
+                    expected.add(e);
+                }
+            }
+            List<Event> actual = index.findOverlapping(from, to);
+            assertEquals(expected.size(), actual.size());
+            assertTrue(actual.containsAll(expected));
+            for (int i = 1; i < actual.size(); i++) {
+                assertFalse(actual.get(i).getStart().isBefore(actual.get(i - 1).getStart()));
+            }
+        }
+    }
+
+    @Test
+    void findConflicts_shouldReportEachOverlappingPairOnce() {
+        EventIndex index = new EventIndex();
+        Event a = event(1, 9, 3);
+        Event b = event(2, 11, 2);
+        Event c = event(3, 13, 1);
+        index.add(a);
+        index.add(b);
+        index.add(c);
+        index.add(new Event("legacy", "Monday", "Tuesday"));
+
+        List<Event[]> conflicts = index.findConflicts();
+        assertEquals(1, conflicts.size());
+        assertSame(a, conflicts.get(0)[0]);
+        assertSame(b, conflicts.get(0)[1]);
+    }
+
+    @Test
+    void findFreeSlots_shouldReturnGapsBetweenEvents() {
+        EventIndex index = new EventIndex();
+        index.add(event(1, 9, 2));
+        index.add(event(2, 10, 2));
+        index.add(event(3, 14, 1));
+
+        List<TimeSlot> slots = index.findFreeSlots(BASE.plusHours(8), BASE.plusHours(18));
+        assertEquals(3, slots.size());
+        assertEquals(BASE.plusHours(8), slots.get(0).getStart());
+        assertEquals(BASE.plusHours(9), slots.get(0).getEnd());
+        assertEquals(BASE.plusHours(12), slots.get(1).getStart());
+        assertEquals(BASE.plusHours(14), slots.get(1).getEnd());
+        assertEquals(BASE.plusHours(15), slots.get(2).getStart());
+        assertEquals(BASE.plusHours(18), slots.get(2).getEnd());
+    }
+
+    @Test
+    void remove_afterIdChanged_shouldStillRemoveEvent() {
+        EventIndex index = new EventIndex();
+        Event first = event(1, 0, 2);
+        Event second = event(2, 0, 2);
+        index.add(first);
+        index.add(second);
+
+        first.setId(2);
+        second.setId(1);
+        index.remove(first);
+
+        assertEquals(List.of(second), index.findOverlapping(BASE, BASE.plusHours(1)));
+    }
+}
@@ -3,6 +3,8 @@ package joko.task;
 import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDateTime;
+
 class EventTest {
 
     @Test
@@ -39,6 +41,12 @@ class EventTest {
         assertEquals(e1, e2);
     }
 
+    @Test
+    void hashCode_shouldMatchForEqualEvents() {
+        assertEquals(new Event("meeting", "10:00", "12:00").hashCode(),
+                new Event("meeting", "10:00", "12:00").hashCode());
+    }
+
     @Test
     void equals_shouldReturnFalseForDifferentDescription() {
         Event e1 = new Event("meeting", "10:00", "12:00");
@@ -61,4 +69,22 @@ class EventTest {
         Task t = new Task("meeting");
         assertNotEquals(e, t);
     }
+
+    @Test
+    void constructor_withStructuredTimes_shouldBeTimed() {
+        Event e = new Event("meeting", "19/10/2026 1400", "19/10/2026 1600");
+        assertTrue(e.isTimed());
+        assertEquals(LocalDateTime.of(2026, 10, 19, 14, 0), e.getStart());
+        assertEquals(LocalDateTime.of(2026, 10, 19, 16, 0), e.getEnd());
+        assertEquals("[E][ ] meeting(from: Oct 19 2026 14:00 to: Oct 19 2026 16:00)", e.toString());
+        assertEquals(e, new Event("meeting", e.getStart(), e.getEnd()));
+    }
+
+    @Test
+    void constructor_withFreeFormOrReversedTimes_shouldNotBeTimed() {
+        assertFalse(new Event("drink", "8pm", "2pm").isTimed());
+        assertFalse(new Event("trip", "19/10/2026 1400", "Monday").isTimed());
+        assertFalse(new Event("oops", "19/10/2026 1400", "19/10/2026 1200").isTimed());
+        assertNull(new Event("drink", "8pm", "2pm").getStart());
+    }
 }
@@ -0,0 +1,58 @@
+package joko.task;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+class StringPoolTest {
+
+    @Test
+    void intern_shouldReturnFirstEqualInstance() {
+        StringPool pool = new StringPool(16);
+        String first = new String("8pm");
+        String second = new String("8pm");
+
+        assertSame(first, pool.intern(first));
+        assertSame(first, pool.intern(second));
+    }
+
+    @Test
+    void internBytes_shouldShareInstanceWithStringPath() {
+        StringPool pool = new StringPool(16);
+        String monday = pool.intern(new String("Monday"));
+        byte[] bytes = "xMondayx".getBytes(StandardCharsets.UTF_8);
+
+        assertSame(monday, pool.intern(bytes, 1, 6));
+    }
+
+    @Test
+    void internBytes_withNonAscii_shouldDecodeUtf8() {
+        StringPool pool = new StringPool(16);
+        byte[] bytes = "café".getBytes(StandardCharsets.UTF_8);
+
+        String first = pool.intern(bytes, 0, bytes.length);
+        assertEquals("café", first);
+        assertSame(first, pool.intern(bytes, 0, bytes.length));
+    }
+
+    @Test
+    void intern_whenDisabled_shouldReturnInput() {
+        StringPool pool = new StringPool(0);
+        String first = new String("gym");
+        byte[] bytes = "gym".getBytes(StandardCharsets.UTF_8);
+
+        assertSame(first, pool.intern(first));
+        assertNotSame(pool.intern(bytes, 0, 3), pool.intern(bytes, 0, 3));
+    }
+
+    @Test
+    void intern_whenSlotTaken_shouldReplaceEntry() {
+        StringPool pool = new StringPool(1);
+        String a = pool.intern(new String("a"));
+        String b = pool.intern(new String("b"));
+
+        assertSame(b, pool.intern(new String("b")));
+        assertNotSame(a, pool.intern(new String("a")));
+    }
+}
@@ -0,0 +1,68 @@
+package joko.task;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+class TaskArrayTest {
+
+    private static Task task(long id) {
+        Task t = new ToDo("task " + id);
+        t.setId(id);
+        return t;
+    }
+
+    @Test
+    void removeAndGet_shouldMatchArrayList() {
+        TaskArray array = new TaskArray(1);
+        ArrayList<Task> expected = new ArrayList<>();
+        Random random = new Random(42);
+        long nextId = 1;
+
+        for (int step = 0; step < 5000; step++) {
+            if (expected.isEmpty() || random.nextInt(3) > 0) {
+                Task t = task(nextId++);
+                array.add(t);
+                expected.add(t);
+            } else {
+                int index = random.nextInt(expected.size());
+                assertSame(expected.remove(index), array.remove(index));
+            }
+        }
+
+        assertEquals(expected.size(), array.size());
+        assertEquals(expected, array);
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), array.get(i));
+            assertEquals(i, array.indexOfId(expected.get(i).getId()));
+        }
+    }
+
+    @Test
+    void removeById_shouldKeepLaterPositionsConsistent() {
+        TaskArray array = new TaskArray();
+        for (long id = 1; id <= 200; id++) {
+            array.add(task(id));
+        }
+        for (long id = 1; id <= 150; id++) {
+            assertEquals(id, array.removeById(id).getId());
+        }
+
+        assertEquals(50, array.size());
+        assertEquals(151, array.get(0).getId());
+        assertEquals(49, array.indexOfId(200));
+        assertNull(array.getById(1));
+        assertNull(array.removeById(1));
+        assertEquals(-1, array.indexOfId(1));
+    }
+
+    @Test
+    void get_withInvalidIndex_shouldThrowException() {
+        TaskArray array = new TaskArray();
+        array.add(task(1));
+        array.remove(0);
+        assertThrows(IndexOutOfBoundsException.class, () -> array.get(0));
+    }
+}
@@ -5,7 +5,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import joko.storage.Storage;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.List;
 
 class TaskListTest {
 
@@ -72,6 +74,64 @@ class TaskListTest {
         assertTrue(results.isEmpty());
     }
 
+    @Test
+    void findTasks_withMultipleKeywords_shouldReturnTasksMatchingAllInListOrder() {
+        Task t1 = new Task("Read the book");
+        Task t2 = new Task("return book to library");
+        Task t3 = new Task("read news");
+        taskList.setFindMode(TaskList.FindMode.KEYWORD);
+        taskList.addTask(t1);
+        taskList.addTask(t2);
+        taskList.addTask(t3);
+
+        var results = taskList.findTasks("book read");
+        assertEquals(1, results.size());
+        assertSame(t1, results.get(0));
+
+        results = taskList.findTasks("BOOK");
+        assertEquals(2, results.size());
+        assertSame(t1, results.get(0));
+        assertSame(t2, results.get(1));
+    }
+
+    @Test
+    void findTasks_afterDelete_shouldNotReturnDeletedTask() {
+        taskList.addTask(new Task("read book"));
+        taskList.addTask(new Task("read news"));
+        taskList.deleteTask(0);
+
+        var results = taskList.findTasks("read");
+        assertEquals(1, results.size());
+        assertEquals("read news", results.get(0).getDesc());
+    }
+
+    @Test
+    void findTasks_byDefault_shouldMatchSubstringsAsBefore() {
+        taskList.addTask(new Task("notebook"));
+        assertEquals(TaskList.FindMode.SUBSTRING, taskList.getFindMode());
+        assertEquals(1, taskList.findTasks("book").size());
+
+        taskList.setFindMode(TaskList.FindMode.KEYWORD);
+        assertTrue(taskList.findTasks("book").isEmpty());
+        assertEquals(1, taskList.findTasks("notebook").size());
+
+        taskList.setFindMode(TaskList.FindMode.SUBSTRING);
+        assertEquals(1, taskList.findTasks("book").size());
+    }
+
+    @Test
+    void contains_shouldDetectEqualTaskOfSameType() {
+        taskList.addTask(new ToDo("read book"));
+        taskList.addTask(new ToDo("read book"));
+        assertTrue(taskList.contains(new ToDo("read book")));
+        assertFalse(taskList.contains(new Event("read book", "1pm", "2pm")));
+
+        taskList.deleteTask(0);
+        assertTrue(taskList.contains(new ToDo("read book")), "One equal task is still in the list");
+        taskList.deleteTask(0);
+        assertFalse(taskList.contains(new ToDo("read book")));
+    }
+
     @Test
     void getTasks_shouldReturnLiveList() {
         Task t = new Task("dance");
@@ -86,4 +146,149 @@ class TaskListTest {
         assertTrue(taskList.contains(t));
         assertFalse(taskList.contains(new Task("nonexistent")));
     }
+
+    @Test
+    void taskIds_shouldStayStableAcrossDeletes() {
+        Task first = taskList.addTask(new ToDo("first"));
+        Task second = taskList.addTask(new ToDo("second"));
+        Task third = taskList.addTask(new ToDo("third"));
+        long thirdId = third.getId();
+
+        taskList.deleteTask(0);
+        assertEquals(thirdId, third.getId());
+        assertSame(third, taskList.getTaskById(thirdId));
+        assertEquals(1, taskList.indexOfId(thirdId));
+        assertNull(taskList.getTaskById(first.getId()));
+        assertNotEquals(second.getId(), thirdId);
+    }
+
+    @Test
+    void markTaskById_shouldUpdateTask() {
+        taskList.addTask(new ToDo("a"));
+        Task t = taskList.addTask(new ToDo("b"));
+        taskList.markTaskById(t.getId(), true);
+        assertTrue(taskList.getTasks().get(1).isDone());
+    }
+
+    @Test
+    void deleteTaskById_shouldRemoveTask() {
+        Task t = taskList.addTask(new ToDo("a"));
+        taskList.addTask(new ToDo("b"));
+        assertSame(t, taskList.deleteTaskById(t.getId()));
+        assertEquals(1, taskList.size());
+        assertEquals("b", taskList.getTasks().get(0).getDesc());
+        assertThrows(IllegalArgumentException.class, () -> taskList.deleteTaskById(t.getId()));
+    }
+
+    @Test
+    void deleteTasks_shouldRemoveSelectedTasksAndIndexes() {
+        for (String desc : new String[] {"a", "b", "c", "d", "e"}) {
+            taskList.addTask(new ToDo(desc));
+        }
+        List<Task> removed = taskList.deleteTasks(new int[] {0, 2, 4});
+
+        assertEquals(3, removed.size());
+        assertEquals("c", removed.get(1).getDesc());
+        assertEquals(2, taskList.size());
+        assertEquals("d", taskList.getTasks().get(1).getDesc());
+        assertFalse(taskList.contains(new ToDo("c")));
+        assertTrue(taskList.findTasks("c").isEmpty());
+    }
+
+    @Test
+    void deleteTasks_withInvalidIndex_shouldLeaveListUnchanged() {
+        taskList.addTask(new ToDo("a"));
+        taskList.addTask(new ToDo("b"));
+        assertThrows(IndexOutOfBoundsException.class, () -> taskList.deleteTasks(new int[] {0, 2}));
+        assertEquals(2, taskList.size());
+    }
+
+    @Test
+    void markTasks_andIndicesOfDone_shouldSelectCompletedTasks() {
+        for (String desc : new String[] {"read book", "swim", "read news"}) {
+            taskList.addTask(new ToDo(desc));
+        }
+        taskList.markTasks(taskList.indicesOfMatches("read"), true);
+
+        assertArrayEquals(new int[] {0, 2}, taskList.indicesOfDone());
+        assertArrayEquals(new int[] {1, 2}, taskList.indicesOfRange(1, 3));
+        taskList.deleteTasks(taskList.indicesOfDone());
+        assertEquals(1, taskList.size());
+        assertEquals("swim", taskList.getTasks().get(0).getDesc());
+    }
+
+    @Test
+    void findDue_shouldReturnDeadlinesInRangeInTimeOrder() {
+        Deadline late = new Deadline("late", LocalDateTime.of(2026, 10, 30, 12, 0));
+        Deadline early = new Deadline("early", LocalDateTime.of(2026, 10, 1, 12, 0));
+        Deadline middle = new Deadline("middle", LocalDateTime.of(2026, 10, 15, 12, 0));
+        taskList.addTask(late);
+        taskList.addTask(new ToDo("not a deadline"));
+        taskList.addTask(early);
+        taskList.addTask(middle);
+
+        assertEquals(List.of(early, middle), taskList.findDueBefore(LocalDateTime.of(2026, 10, 30, 12, 0)));
+        assertEquals(List.of(late), taskList.findDueAfter(middle.getBy()));
+        assertEquals(List.of(early, middle, late), taskList.findDueBetween(early.getBy(), late.getBy()));
+
+        taskList.deleteTask(3);
+        assertEquals(List.of(early, late), taskList.findDueBetween(early.getBy(), late.getBy()));
+    }
+
+    @Test
+    void scheduleQueries_shouldUseTimedEventsAndDeadlines() {
+        LocalDateTime nine = LocalDateTime.of(2026, 10, 19, 9, 0);
+        Event standup = new Event("standup", nine, nine.plusHours(1));
+        Event review = new Event("review", nine.plusMinutes(30), nine.plusHours(2));
+        Deadline report = new Deadline("report", nine.plusHours(8));
+        taskList.addTask(standup);
+        taskList.addTask(review);
+        taskList.addTask(report);
+        taskList.addTask(new Event("drink", "8pm", "2pm"));
+
+        assertEquals(List.of(standup, review, report), taskList.findOn(nine.toLocalDate()));
+        assertEquals(1, taskList.findConflicts().size());
+        assertEquals(2, taskList.findFreeSlots(nine.minusHours(1), nine.plusHours(3)).size());
+
+        taskList.deleteTask(1);
+        assertTrue(taskList.findConflicts().isEmpty());
+        assertEquals(List.of(standup), taskList.findEventsBetween(nine, nine.plusHours(2)));
+    }
+
+    @Test
+    void columnar_shouldSupportListOperationsWithoutIndexes() {
+        TaskList columnar = new TaskList(List.of(new ToDo("read book")), new Storage("temp_tasks.txt"), true);
+        LocalDateTime nine = LocalDateTime.of(2026, 10, 19, 9, 0);
+        Deadline report = new Deadline("report", nine.plusHours(8));
+        columnar.addTask(new Event("standup", nine, nine.plusHours(1)));
+        columnar.addTask(report);
+        columnar.addTask(new ToDo("read news"));
+
+        columnar.markTasks(columnar.indicesOfMatches("read"), true);
+        assertArrayEquals(new int[] {0, 3}, columnar.indicesOfDone());
+        assertTrue(columnar.getTasks().get(3).isDone());
+        assertTrue(columnar.contains(new Deadline("report", nine.plusHours(8))));
+        assertEquals(List.of(report), columnar.findDueAfter(nine));
+        assertEquals(2, columnar.findOn(nine.toLocalDate()).size());
+
+        long reportId = report.getId();
+        columnar.deleteTasks(new int[] {0, 1});
+        assertEquals(2, columnar.size());
+        assertEquals("report", columnar.getTaskById(reportId).getDesc());
+        assertEquals(0, columnar.indexOfId(reportId));
+        assertNull(columnar.getTaskById(1));
+        assertEquals(TaskList.FindMode.SUBSTRING, columnar.getFindMode());
+        assertThrows(IllegalStateException.class, () -> columnar.setFindMode(TaskList.FindMode.KEYWORD));
+    }
+
+    @Test
+    void getTasks_shouldBeReadOnlyLiveView() {
+        List<Task> tasks = taskList.getTasks();
+        taskList.addTask(new ToDo("read book"));
+
+        assertEquals(1, tasks.size());
+        assertThrows(UnsupportedOperationException.class, () -> tasks.add(new ToDo("swim")));
+        assertThrows(UnsupportedOperationException.class, () -> tasks.remove(0));
+        assertEquals(1, taskList.size());
+    }
 }
@@ -38,6 +38,17 @@ class TaskTest {
         assertEquals("[X] swim", t.toString());
     }
 
+    @Test
+    void toString_shouldBeCachedUntilStatusChanges() {
+        Task t = new ToDo("swim");
+        String first = t.toString();
+        assertSame(first, t.toString());
+        t.setDone(false);
+        assertSame(first, t.toString(), "Setting the same status should keep the cached string");
+        t.setDone(true);
+        assertEquals("[T][X] swim", t.toString());
+    }
+
     @Test
     void emptyDescription_shouldStillWork() {
         Task t = new Task("");
@@ -35,6 +35,11 @@ class ToDoTest {
         assertEquals(t1, t2);
     }
 
+    @Test
+    void hashCode_shouldMatchForEqualToDos() {
+        assertEquals(new ToDo("read book").hashCode(), new ToDo("read book").hashCode());
+    }
+
     @Test
     void equals_shouldReturnFalseForDifferentDescription() {
         ToDo t1 = new ToDo("read book");